@@ -0,0 +1,66 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Genera al compilar la variante .gz de los recursos estáticos de texto.
+ *
+ * Maven lo ejecuta tras copiar los recursos a target/classes (ver pom.xml):
+ * {@code java src/compilacion/ComprimirRecursos.java target/classes/static}.
+ * Spring sirve el .gz directamente a los navegadores que aceptan gzip
+ * ({@code spring.web.resources.chain.compressed}), sin comprimir en cada
+ * petición.
+ *
+ * Las imágenes (png, jpg...) ya van comprimidas y no se tocan. Solo se guarda
+ * la variante si ocupa menos que el original.
+ *
+ * @version 1.0
+ */
+public class ComprimirRecursos {
+
+    /** Extensiones de los ficheros que se comprimen */
+    private static final Set<String> EXTENSIONES = Set.of("css", "js", "svg", "html", "json", "txt");
+
+    public static void main(String[] args) throws IOException {
+        Path carpeta = Path.of(args[0]);
+        if (!Files.isDirectory(carpeta)) {
+            return;
+        }
+
+        List<Path> ficheros;
+        try (Stream<Path> recorrido = Files.walk(carpeta)) {
+            ficheros = recorrido.filter(Files::isRegularFile).filter(ComprimirRecursos::comprimible).toList();
+        }
+
+        int generados = 0;
+        for (Path fichero : ficheros) {
+            byte[] original = Files.readAllBytes(fichero);
+            Path destino = fichero.resolveSibling(fichero.getFileName() + ".gz");
+            try (OutputStream salida = new GZIPOutputStream(Files.newOutputStream(destino)) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                salida.write(original);
+            }
+            if (Files.size(destino) < original.length) {
+                generados++;
+            } else {
+                Files.delete(destino);
+            }
+        }
+        System.out.println("Recursos comprimidos: " + generados + " de " + ficheros.size());
+    }
+
+    private static boolean comprimible(Path fichero) {
+        String nombre = fichero.getFileName().toString();
+        int punto = nombre.lastIndexOf('.');
+        return punto > 0 && EXTENSIONES.contains(nombre.substring(punto + 1));
+    }
+}
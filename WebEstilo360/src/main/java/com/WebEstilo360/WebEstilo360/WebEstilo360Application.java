@@ -1,22 +1,27 @@
 package com.WebEstilo360.WebEstilo360;
 
-import java.util.Collections;
-
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.WebEstilo360.WebEstilo360.interceptor.CircuitoInterceptor;
+import com.WebEstilo360.WebEstilo360.interceptor.CorrelacionInterceptor;
 import com.WebEstilo360.WebEstilo360.interceptor.JwtInterceptor;
 
 /**
  * Clase principal de la aplicación WebEstilo360.
  * Configura el contexto de Spring Boot, inicializa la aplicación y define beans necesarios.
  * 
- * Contiene la configuración principal de la aplicación y el bean RestTemplate con un interceptor JWT.
+ * Contiene la configuración principal de la aplicación y el bean RestTemplate con
+ * los interceptores de JWT, de correlación y de circuit breaker, que usa el
+ * cliente HTTP con pool de conexiones de
+ * {@link com.WebEstilo360.WebEstilo360.config.ClienteHttpConfig}.
  * 
- * @version 1.0
+ * @version 1.2
  */
 @Configuration
 @SpringBootApplication
@@ -25,13 +30,24 @@ public class WebEstilo360Application {
     /** Interceptor para agregar JWT a las solicitudes HTTP */
     private final JwtInterceptor jwtInterceptor;
 
+    /** Interceptor para enviar el identificador de correlación a la API */
+    private final CorrelacionInterceptor correlacionInterceptor;
+
+    /** Interceptor con el circuit breaker y el respaldo de las lecturas */
+    private final CircuitoInterceptor circuitoInterceptor;
+
     /**
-     * Constructor de la aplicación que inyecta el interceptor JWT.
+     * Constructor de la aplicación que inyecta los interceptores.
      * 
      * @param jwtInterceptor Interceptor que se utiliza para incluir el token JWT en las solicitudes
+     * @param correlacionInterceptor Interceptor que incluye el identificador de correlación
+     * @param circuitoInterceptor Interceptor con el circuit breaker por endpoint
      */
-    public WebEstilo360Application(JwtInterceptor jwtInterceptor) {
+    public WebEstilo360Application(JwtInterceptor jwtInterceptor, CorrelacionInterceptor correlacionInterceptor,
+                                   CircuitoInterceptor circuitoInterceptor) {
         this.jwtInterceptor = jwtInterceptor;
+        this.correlacionInterceptor = correlacionInterceptor;
+        this.circuitoInterceptor = circuitoInterceptor;
     }
 
     /**
@@ -44,15 +60,28 @@ public class WebEstilo360Application {
     }
 
     /**
-     * Define un bean de RestTemplate con el interceptor JWT configurado.
-     * Permite realizar solicitudes HTTP con el token automáticamente incluido.
+     * Define un bean de RestTemplate con los interceptores JWT y de correlación.
+     * Permite realizar solicitudes HTTP con el token y el identificador de
+     * correlación automáticamente incluidos.
+     * 
+     * Se crea con el {@link RestTemplateBuilder} de Spring Boot, que además
+     * registra las métricas {@code http.client.requests} de cada llamada. La
+     * etiqueta {@code uri} es la plantilla de la URL, así que los servicios
+     * deben pasar los identificadores y parámetros como variables
+     * ({@code "/citas/{id}", id}) y no concatenados, para no crear una serie
+     * por valor ni publicar datos de clientes en las métricas.
      * 
-     * @return Instancia de RestTemplate con interceptor JWT
+     * @param builder Constructor de RestTemplate de Spring Boot
+     * @param factoriaPeticiones Factoría de peticiones con pool de conexiones
+     * @return Instancia de RestTemplate con los interceptores
      */
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setInterceptors(Collections.singletonList(jwtInterceptor));
-        return restTemplate;
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     HttpComponentsClientHttpRequestFactory factoriaPeticiones) {
+        return builder
+                .requestFactory(() -> factoriaPeticiones)
+                // El circuito va el último para ver la cabecera Authorization final
+                .interceptors(correlacionInterceptor, jwtInterceptor, circuitoInterceptor)
+                .build();
     }
 }
\ No newline at end of file
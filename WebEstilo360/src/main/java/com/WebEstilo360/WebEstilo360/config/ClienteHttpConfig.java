@@ -0,0 +1,125 @@
+package com.WebEstilo360.WebEstilo360.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Configuración del cliente HTTP con el que la web llama a la API.
+ *
+ * Usa Apache HttpClient 5 con un pool de conexiones persistentes (keep-alive),
+ * de modo que las peticiones reutilizan conexiones abiertas en lugar de abrir
+ * una por llamada. Todas las esperas tienen límite: abrir la conexión,
+ * obtenerla del pool y recibir la respuesta. Una API lenta no deja bloqueados
+ * los hilos de la web indefinidamente.
+ *
+ * El uso del pool se publica en las métricas
+ * {@code httpcomponents.httpclient.pool.*} con la etiqueta {@code httpclient=api}.
+ *
+ * @version 1.0
+ */
+@Configuration
+public class ClienteHttpConfig {
+
+    /**
+     * Pool de conexiones hacia la API.
+     *
+     * @param maxConexiones Conexiones máximas en total
+     * @param maxPorRuta Conexiones máximas hacia un mismo host
+     * @param timeoutConexionMs Tiempo máximo para abrir una conexión
+     * @param timeoutLecturaMs Tiempo máximo sin recibir datos de una conexión abierta
+     * @param vidaMaximaMs Tiempo máximo que se reutiliza una conexión
+     * @param validarTrasMs Inactividad tras la que se comprueba una conexión antes de reutilizarla
+     * @return Gestor de conexiones
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager gestorConexionesApi(
+            @Value("${app.api.cliente.max-conexiones:200}") int maxConexiones,
+            @Value("${app.api.cliente.max-por-ruta:100}") int maxPorRuta,
+            @Value("${app.api.cliente.timeout-conexion-ms:2000}") long timeoutConexionMs,
+            @Value("${app.api.cliente.timeout-lectura-ms:10000}") long timeoutLecturaMs,
+            @Value("${app.api.cliente.vida-maxima-ms:300000}") long vidaMaximaMs,
+            @Value("${app.api.cliente.validar-tras-ms:2000}") long validarTrasMs) {
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConexiones)
+                .setMaxConnPerRoute(maxPorRuta)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(timeoutConexionMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(timeoutLecturaMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(vidaMaximaMs))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validarTrasMs))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Cliente HTTP que usa el pool de conexiones.
+     *
+     * @param gestorConexiones Pool de conexiones hacia la API
+     * @param timeoutPoolMs Tiempo máximo de espera por una conexión libre del pool
+     * @param timeoutRespuestaMs Tiempo máximo de espera de la respuesta
+     * @param inactividadMs Tiempo tras el que se cierran las conexiones sin uso
+     * @return Cliente HTTP
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient clienteHttpApi(
+            PoolingHttpClientConnectionManager gestorConexiones,
+            @Value("${app.api.cliente.timeout-pool-ms:1000}") long timeoutPoolMs,
+            @Value("${app.api.cliente.timeout-respuesta-ms:10000}") long timeoutRespuestaMs,
+            @Value("${app.api.cliente.inactividad-ms:30000}") long inactividadMs) {
+
+        return HttpClients.custom()
+                .setConnectionManager(gestorConexiones)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeoutPoolMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(timeoutRespuestaMs))
+                        .build())
+                // Cierra en segundo plano las conexiones caducadas o sin uso
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(inactividadMs, TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    /**
+     * Factoría de peticiones de RestTemplate basada en el cliente con pool.
+     *
+     * @param clienteHttp Cliente HTTP hacia la API
+     * @return Factoría de peticiones
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory factoriaPeticionesApi(CloseableHttpClient clienteHttp) {
+        return new HttpComponentsClientHttpRequestFactory(clienteHttp);
+    }
+
+    /**
+     * Publica el uso del pool de conexiones (conexiones ocupadas, libres,
+     * peticiones esperando y máximos configurados).
+     *
+     * @param gestorConexiones Pool de conexiones hacia la API
+     * @param registry Registro de métricas
+     * @return Binder de métricas del pool
+     */
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder metricasPoolApi(
+            PoolingHttpClientConnectionManager gestorConexiones, MeterRegistry registry) {
+        PoolingHttpClientConnectionManagerMetricsBinder binder =
+                new PoolingHttpClientConnectionManagerMetricsBinder(gestorConexiones, "api");
+        binder.bindTo(registry);
+        return binder;
+    }
+}
@@ -0,0 +1,30 @@
+package com.WebEstilo360.WebEstilo360.config;
+
+import java.util.function.Predicate;
+
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Decide qué errores de una llamada a la API cuentan como fallo para los
+ * circuit breakers ({@code resilience4j.circuitbreaker.configs.default.record-failure-predicate}).
+ *
+ * Los errores 4xx son respuestas válidas de una API que funciona (credenciales
+ * incorrectas, datos inválidos, recurso inexistente) y no deben abrir el
+ * circuito. Todo lo demás (conexión rechazada, timeout, 5xx) sí cuenta.
+ *
+ * @version 1.0
+ */
+public class FalloApi implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable error) {
+        if (error instanceof HttpClientErrorException) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException respuesta) {
+            return !respuesta.getStatusCode().is4xxClientError();
+        }
+        return true;
+    }
+}
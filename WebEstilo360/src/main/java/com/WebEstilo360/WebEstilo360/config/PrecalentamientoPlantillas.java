@@ -0,0 +1,205 @@
+package com.WebEstilo360.WebEstilo360.config;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.dialect.AbstractDialect;
+import org.thymeleaf.dialect.IPreProcessorDialect;
+import org.thymeleaf.engine.AbstractTemplateHandler;
+import org.thymeleaf.model.ICDATASection;
+import org.thymeleaf.model.ICloseElementTag;
+import org.thymeleaf.model.IComment;
+import org.thymeleaf.model.IDocType;
+import org.thymeleaf.model.IOpenElementTag;
+import org.thymeleaf.model.IProcessingInstruction;
+import org.thymeleaf.model.IStandaloneElementTag;
+import org.thymeleaf.model.ITemplateEnd;
+import org.thymeleaf.model.ITemplateStart;
+import org.thymeleaf.model.IText;
+import org.thymeleaf.model.IXMLDeclaration;
+import org.thymeleaf.preprocessor.IPreProcessor;
+import org.thymeleaf.preprocessor.PreProcessor;
+import org.thymeleaf.templatemode.TemplateMode;
+
+/**
+ * Precalentamiento de las plantillas Thymeleaf al arrancar la aplicación.
+ *
+ * Con {@code spring.thymeleaf.cache=true}, Thymeleaf analiza cada plantilla la
+ * primera vez que se usa y guarda el resultado. Este componente recorre todas
+ * las plantillas de {@code templates/} al arrancar y las procesa una vez, de
+ * modo que la primera visita a cada página ya no paga el análisis. Se hace
+ * antes de que la aplicación se marque como lista para recibir tráfico.
+ *
+ * Las plantillas se procesan sin modelo: un preprocesador descarta todos los
+ * eventos cuando el contexto lleva la variable {@value #VARIABLE}, así que no
+ * se evalúa ninguna expresión ni se genera salida. El análisis, que es lo que
+ * se guarda en caché, ya se ha hecho antes de llegar al preprocesador.
+ *
+ * Se activa con {@code app.plantillas.precalentar=true} (perfil {@code prod}).
+ *
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.plantillas.precalentar", havingValue = "true")
+public class PrecalentamientoPlantillas {
+
+    /** Variable de contexto que indica que la plantilla solo se precalienta */
+    public static final String VARIABLE = "__precalentar__";
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(PrecalentamientoPlantillas.class);
+
+    /**
+     * Dialecto con el preprocesador que descarta la salida del precalentamiento.
+     * Spring Boot añade al motor de plantillas los dialectos declarados como bean.
+     *
+     * @return Dialecto de precalentamiento
+     */
+    @Bean
+    public DialectoPrecalentamiento dialectoPrecalentamiento() {
+        return new DialectoPrecalentamiento();
+    }
+
+    /**
+     * Procesa todas las plantillas para que queden analizadas en la caché.
+     *
+     * @param evento Evento de aplicación lista
+     */
+    @EventListener
+    public void precalentar(ApplicationReadyEvent evento) {
+        ResourcePatternResolver recursos = evento.getApplicationContext();
+        ITemplateEngine motor = evento.getApplicationContext().getBean(ITemplateEngine.class);
+        String prefijo = evento.getApplicationContext().getEnvironment()
+                .getProperty("spring.thymeleaf.prefix", "classpath:/templates/");
+        String sufijo = evento.getApplicationContext().getEnvironment()
+                .getProperty("spring.thymeleaf.suffix", ".html");
+
+        long inicio = System.nanoTime();
+        int procesadas = 0;
+        try {
+            String carpeta = prefijo.substring(prefijo.indexOf(':') + 1);
+            for (Resource recurso : recursos.getResources("classpath*:" + carpeta + "**/*" + sufijo)) {
+                String ruta = recurso.getURL().toString();
+                String plantilla = ruta.substring(ruta.lastIndexOf(carpeta) + carpeta.length(),
+                        ruta.length() - sufijo.length());
+                try {
+                    motor.process(plantilla, new Context(Locale.getDefault(), Map.of(VARIABLE, true)),
+                            Writer.nullWriter());
+                    procesadas++;
+                } catch (Exception e) {
+                    log.warn("No se ha podido precalentar la plantilla '{}': {}", plantilla, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("No se han podido listar las plantillas: {}", e.getMessage());
+        }
+        log.info("Plantillas precalentadas: {} en {} ms", procesadas, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Dialecto que registra el preprocesador {@link Descartador}.
+     */
+    public static class DialectoPrecalentamiento extends AbstractDialect implements IPreProcessorDialect {
+
+        public DialectoPrecalentamiento() {
+            super("Precalentamiento");
+        }
+
+        @Override
+        public int getDialectPreProcessorPrecedence() {
+            return Integer.MIN_VALUE;
+        }
+
+        @Override
+        public Set<IPreProcessor> getPreProcessors() {
+            return Set.of(new PreProcessor(TemplateMode.HTML, Descartador.class, Integer.MIN_VALUE));
+        }
+    }
+
+    /**
+     * Preprocesador que deja pasar los eventos de la plantilla salvo cuando se
+     * está precalentando, en cuyo caso los descarta todos.
+     */
+    public static class Descartador extends AbstractTemplateHandler {
+
+        /** Indica si la plantilla solo se está precalentando */
+        private boolean descartar;
+
+        @Override
+        public void setContext(ITemplateContext context) {
+            super.setContext(context);
+            this.descartar = context.containsVariable(VARIABLE);
+        }
+
+        @Override
+        public void handleTemplateStart(ITemplateStart templateStart) {
+            if (!descartar) super.handleTemplateStart(templateStart);
+        }
+
+        @Override
+        public void handleTemplateEnd(ITemplateEnd templateEnd) {
+            if (!descartar) super.handleTemplateEnd(templateEnd);
+        }
+
+        @Override
+        public void handleXMLDeclaration(IXMLDeclaration xmlDeclaration) {
+            if (!descartar) super.handleXMLDeclaration(xmlDeclaration);
+        }
+
+        @Override
+        public void handleDocType(IDocType docType) {
+            if (!descartar) super.handleDocType(docType);
+        }
+
+        @Override
+        public void handleCDATASection(ICDATASection cdataSection) {
+            if (!descartar) super.handleCDATASection(cdataSection);
+        }
+
+        @Override
+        public void handleComment(IComment comment) {
+            if (!descartar) super.handleComment(comment);
+        }
+
+        @Override
+        public void handleText(IText text) {
+            if (!descartar) super.handleText(text);
+        }
+
+        @Override
+        public void handleStandaloneElement(IStandaloneElementTag standaloneElementTag) {
+            if (!descartar) super.handleStandaloneElement(standaloneElementTag);
+        }
+
+        @Override
+        public void handleOpenElement(IOpenElementTag openElementTag) {
+            if (!descartar) super.handleOpenElement(openElementTag);
+        }
+
+        @Override
+        public void handleCloseElement(ICloseElementTag closeElementTag) {
+            if (!descartar) super.handleCloseElement(closeElementTag);
+        }
+
+        @Override
+        public void handleProcessingInstruction(IProcessingInstruction processingInstruction) {
+            if (!descartar) super.handleProcessingInstruction(processingInstruction);
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.WebEstilo360.WebEstilo360.dto.LoginRequestDTO;
 import com.WebEstilo360.WebEstilo360.dto.LoginResponseDTO;
 import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
 import com.WebEstilo360.WebEstilo360.service.AuthService;
-import com.WebEstilo360.WebEstilo360.service.JwtService;
 import com.WebEstilo360.WebEstilo360.util.SessionUtil;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -26,9 +25,10 @@ import org.slf4j.LoggerFactory;
  * Gestiona endpoints relacionados con login, registro, verificación de correo, 
  * recuperación y cambio de contraseña.
  * 
- * Utiliza AuthService para la lógica de negocio y JwtService para el manejo de JWT.
+ * Utiliza AuthService para la lógica de negocio. Los datos del usuario que
+ * se guardan en la sesión vienen en la propia respuesta del login.
  * También inyecta un RestTemplate para llamadas HTTP a servicios externos.
- * @version 1.0
+ * @version 1.1
  */
 @Controller
 @RequiredArgsConstructor
@@ -40,9 +40,6 @@ public class AuthController {
     /** Cliente HTTP para llamadas a servicios externos */
     private final RestTemplate restTemplate; // ← AGREGAR
 
-    /** Servicio para manejo de tokens JWT */
-    private final JwtService jwtService;
-
     /** Logger para seguimiento de eventos de autenticación */
     private static final Logger log = LoggerFactory.getLogger(AuthController.class);
 
@@ -79,7 +76,7 @@ public class AuthController {
 
     /**
      * Procesa el login de un usuario.
-     * Verifica credenciales, guarda token en sesión y extrae información del JWT.
+     * Verifica credenciales y guarda en sesión el token y los datos del usuario.
      * 
      * @param loginRequest Datos del login enviados desde el formulario
      * @param session Sesión HTTP del usuario
@@ -98,23 +95,15 @@ public class AuthController {
             LoginResponseDTO response = authService.login(loginRequest);
 
             if (response != null && response.getToken() != null) {
+                // La respuesta ya trae los datos del usuario: no hace falta
+                // decodificar el token ni pedir el usuario a la API
                 SessionUtil.guardarToken(session, response.getToken());
-                String rol = jwtService.obtenerRol(response.getToken());
-                String correo = jwtService.obtenerCorreo(response.getToken());
-                log.info("Login exitoso - Usuario: {}, Rol: {}", correo, rol);
-
-                SessionUtil.guardarRol(session, rol);
-                SessionUtil.guardarCorreo(session, correo);
-
-                try {
-                    UsuarioDTO usuario = authService.obtenerUsuarioPorCorreo(correo);
-                    if (usuario != null) {
-                        SessionUtil.guardarNombre(session, usuario.getNombre_completo());
-                        SessionUtil.guardarUsuarioId(session, usuario.getId_usuario());
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error al obtener datos del usuario: " + e.getMessage());
-                }
+                SessionUtil.guardarExpiracion(session, response.getExpira());
+                SessionUtil.guardarRol(session, response.getRol());
+                SessionUtil.guardarCorreo(session, response.getCorreo());
+                SessionUtil.guardarNombre(session, response.getNombre_completo());
+                SessionUtil.guardarUsuarioId(session, response.getId_usuario());
+                log.info("Login exitoso - Usuario: {}, Rol: {}", response.getCorreo(), response.getRol());
 
                 redirectAttributes.addFlashAttribute("success", 
                     "¡Bienvenido! Has iniciado sesión correctamente.");
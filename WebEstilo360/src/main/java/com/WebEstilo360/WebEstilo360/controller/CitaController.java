@@ -7,6 +7,7 @@ import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
 import com.WebEstilo360.WebEstilo360.service.ApiUsuarioService;
 import com.WebEstilo360.WebEstilo360.service.CitaService;
 import com.WebEstilo360.WebEstilo360.service.EmpleadoService;
+import com.WebEstilo360.WebEstilo360.service.LlamadasConcurrentes;
 import com.WebEstilo360.WebEstilo360.service.ServicioService;
 import com.WebEstilo360.WebEstilo360.util.SessionUtil;
 import jakarta.servlet.http.HttpSession;
@@ -30,7 +31,9 @@ import org.slf4j.LoggerFactory;
  * 
  * Gestiona endpoints para listar, crear, editar y eliminar citas.
  * Interactúa con CitaService, ApiUsuarioService, EmpleadoService y ServicioService.
- * @version 1.0
+ * Las consultas independientes de una misma página se hacen en paralelo con
+ * {@link LlamadasConcurrentes}.
+ * @version 1.1
  */
 @Controller
 @RequestMapping("/citas")
@@ -49,6 +52,9 @@ public class CitaController {
     /** Servicio para obtener información de servicios */
     private final ServicioService servicioService;
 
+    /** Ejecutor de llamadas paralelas a la API */
+    private final LlamadasConcurrentes llamadasConcurrentes;
+
     /** Logger para seguimiento de eventos en el controlador */
     Logger logger = LoggerFactory.getLogger(DashboardController.class); // Ajusta al controlador real
 
@@ -66,10 +72,17 @@ public class CitaController {
         }
 
         try {
-            List<CitaDTO> citas = citaService.listarCitas();
-            List<UsuarioDTO> usuarios = usuarioService.listarTodosLosUsuarios();
-            List<EmpleadoDTO> empleados = empleadoService.listarEmpleados();
-            List<ServicioDTO> servicios = servicioService.listarServicios();
+            LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+            var llamadaCitas = grupo.llamar("citas", citaService::listarCitas, Collections.<CitaDTO>emptyList());
+            var llamadaUsuarios = grupo.llamar("usuarios", usuarioService::listarTodosLosUsuarios, Collections.<UsuarioDTO>emptyList());
+            var llamadaEmpleados = grupo.llamar("empleados", empleadoService::listarEmpleados, Collections.<EmpleadoDTO>emptyList());
+            var llamadaServicios = grupo.llamar("servicios", servicioService::listarServicios, Collections.<ServicioDTO>emptyList());
+            grupo.esperar();
+
+            List<CitaDTO> citas = llamadaCitas.resultado();
+            List<UsuarioDTO> usuarios = llamadaUsuarios.resultado();
+            List<EmpleadoDTO> empleados = llamadaEmpleados.resultado();
+            List<ServicioDTO> servicios = llamadaServicios.resultado();
 
             Map<Long, String> usuariosMap = new HashMap<>();
             Map<Long, String> empleadosMap = new HashMap<>();
@@ -87,6 +100,9 @@ public class CitaController {
 
             model.addAttribute("citas", citas);
             model.addAttribute("nombre", SessionUtil.obtenerNombre(session));
+            if (grupo.incompleto()) {
+                model.addAttribute("error", "Algunos datos no se han podido cargar");
+            }
 
             return "citas";
 
@@ -113,17 +129,27 @@ public class CitaController {
         }
 
         try {
-            CitaDTO cita = citaService.obtenerCitaPorId(id);
+            LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+            var llamadaCita = grupo.llamar("cita", () -> citaService.obtenerCitaPorId(id), null);
+            var llamadaUsuarios = grupo.llamar("usuarios", usuarioService::listarTodosLosUsuarios, Collections.<UsuarioDTO>emptyList());
+            var llamadaEmpleados = grupo.llamar("empleados", empleadoService::listarEmpleados, Collections.<EmpleadoDTO>emptyList());
+            var llamadaServicios = grupo.llamar("servicios", servicioService::listarServicios, Collections.<ServicioDTO>emptyList());
+            grupo.esperar();
+
+            CitaDTO cita = llamadaCita.resultado();
             
             if (cita == null) {
                 return "redirect:/citas";
             }
 
             model.addAttribute("cita", cita);
-            model.addAttribute("usuarios", usuarioService.listarTodosLosUsuarios());
-            model.addAttribute("empleados", empleadoService.listarEmpleados());
-            model.addAttribute("servicios", servicioService.listarServicios());
+            model.addAttribute("usuarios", llamadaUsuarios.resultado());
+            model.addAttribute("empleados", llamadaEmpleados.resultado());
+            model.addAttribute("servicios", llamadaServicios.resultado());
             model.addAttribute("nombre", SessionUtil.obtenerNombre(session));
+            if (grupo.incompleto()) {
+                model.addAttribute("error", "Algunos datos no se han podido cargar");
+            }
 
             return "editar-cita";
 
@@ -222,8 +248,7 @@ public class CitaController {
         }
 
         try {
-            String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuario = usuarioService.obtenerPerfil(session);
             model.addAttribute("usuario", usuario);
 
             List<ServicioDTO> servicios = servicioService.listarServicios();
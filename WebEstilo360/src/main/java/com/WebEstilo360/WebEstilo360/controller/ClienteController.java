@@ -58,7 +58,7 @@ public class ClienteController {
             String token = SessionUtil.obtenerToken(session);
 
             // Obtener datos del usuario
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuario = usuarioService.obtenerPerfil(session);
             model.addAttribute("usuario", usuario);
 
             // Obtener próxima cita
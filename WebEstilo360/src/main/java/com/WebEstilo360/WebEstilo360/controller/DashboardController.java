@@ -1,35 +1,43 @@
 package com.WebEstilo360.WebEstilo360.controller;
 
 import com.WebEstilo360.WebEstilo360.dto.CitaDTO;
+import com.WebEstilo360.WebEstilo360.dto.DashboardClienteDTO;
 import com.WebEstilo360.WebEstilo360.dto.ResenaDTO;
 import com.WebEstilo360.WebEstilo360.dto.ServicioDTO;
 import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
+import com.WebEstilo360.WebEstilo360.service.ApiGateway;
 import com.WebEstilo360.WebEstilo360.service.ApiUsuarioService;
 import com.WebEstilo360.WebEstilo360.service.AuthService;
+import com.WebEstilo360.WebEstilo360.service.CacheFragmentos;
+import com.WebEstilo360.WebEstilo360.service.CacheReferencias;
 import com.WebEstilo360.WebEstilo360.service.CitaService;
 import com.WebEstilo360.WebEstilo360.service.ResenaService;
 import com.WebEstilo360.WebEstilo360.service.ServicioService;
 import com.WebEstilo360.WebEstilo360.util.SessionUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Controlador MVC para el dashboard y funcionalidades relacionadas
  * con clientes y administradores.
@@ -50,6 +58,8 @@ public class DashboardController {
     private final ServicioService servicioService;
     private final AuthService authService;
     private final ResenaService resenaService;
+    private final ApiGateway apiGateway;
+    private final CacheFragmentos cacheFragmentos;
 
     private static final Logger log = LoggerFactory.getLogger(DashboardController.class);
 
@@ -109,17 +119,15 @@ public class DashboardController {
 
         try {
             String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
-            model.addAttribute("usuario", usuario);
-
-            CitaDTO proximaCita = citaService.obtenerProximaCita(token);
-            model.addAttribute("proximaCita", proximaCita);
-
-            List<CitaDTO> historial = citaService.obtenerHistorial(token);
-            model.addAttribute("historial", historial);
+            DashboardClienteDTO dashboard = citaService.obtenerDashboardCliente(token);
+            if (dashboard.getUsuario() != null) {
+                SessionUtil.guardarPerfil(session, dashboard.getUsuario());
+            }
 
-            List<CitaDTO> todasCitas = citaService.obtenerMisCitas(token);
-            model.addAttribute("todasCitas", todasCitas);
+            model.addAttribute("usuario", dashboard.getUsuario());
+            model.addAttribute("proximaCita", dashboard.getProximaCita());
+            model.addAttribute("historial", dashboard.getHistorial());
+            model.addAttribute("todasCitas", dashboard.getCitas());
 
             model.addAttribute("rol", rol);
             return "dashboard-cliente";
@@ -141,11 +149,12 @@ public class DashboardController {
         if (!"cliente".equalsIgnoreCase(SessionUtil.obtenerRol(session))) return "redirect:/dashboard";
 
         try {
-            List<ServicioDTO> servicios = servicioService.listarServicios();
-            model.addAttribute("servicios", servicios);
+            // El HTML del catálogo se reutiliza mientras no cambie la lista de servicios
+            CacheReferencias.Versionada<List<ServicioDTO>> catalogo = servicioService.obtenerCatalogo();
+            model.addAttribute("catalogo", cacheFragmentos.renderizar(CacheFragmentos.CATALOGO_SERVICIOS,
+                    catalogo.version(), Map.of("servicios", catalogo.valor())));
 
-            String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuario = usuarioService.obtenerPerfil(session);
             model.addAttribute("usuario", usuario);
 
             return "servicios-cliente";
@@ -166,8 +175,7 @@ public class DashboardController {
         if (!"cliente".equalsIgnoreCase(SessionUtil.obtenerRol(session))) return "redirect:/dashboard";
 
         try {
-            String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuario = usuarioService.obtenerPerfil(session);
             model.addAttribute("usuario", usuario);
             return "cliente-perfil";
 
@@ -188,8 +196,7 @@ public class DashboardController {
         if (!SessionUtil.estaAutenticado(session)) return "redirect:/login";
 
         try {
-            String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuarioActual = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuarioActual = usuarioService.obtenerPerfil(session);
 
             usuarioDTO.setId_usuario(usuarioActual.getId_usuario());
             usuarioDTO.setCorreo(usuarioActual.getCorreo());
@@ -197,6 +204,7 @@ public class DashboardController {
 
             usuarioService.actualizarUsuario(usuarioActual.getId_usuario(), usuarioDTO);
             SessionUtil.guardarNombre(session, usuarioDTO.getNombre_completo());
+            SessionUtil.eliminarPerfil(session);
 
             redirectAttributes.addFlashAttribute("success", "Perfil actualizado correctamente");
         } catch (Exception e) {
@@ -215,8 +223,7 @@ public class DashboardController {
         if (!SessionUtil.estaAutenticado(session)) return "redirect:/login";
 
         try {
-            String token = SessionUtil.obtenerToken(session);
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
+            UsuarioDTO usuario = usuarioService.obtenerPerfil(session);
             authService.solicitarResetPassword(usuario.getCorreo());
 
             redirectAttributes.addFlashAttribute("success",
@@ -235,29 +242,34 @@ public class DashboardController {
      * Vista de citas del cliente
      */
     @GetMapping("/cliente-citas")
-    public String verMisCitas(HttpSession session, Model model) {
-        if (!SessionUtil.estaAutenticado(session)) return "redirect:/login";
-        if (!"cliente".equalsIgnoreCase(SessionUtil.obtenerRol(session))) return "redirect:/dashboard";
-
-        try {
-            String token = SessionUtil.obtenerToken(session);
-            Long usuarioId = SessionUtil.obtenerUsuarioId(session);
-
-            List<CitaDTO> citas = citaService.obtenerMisCitas(token);
-            model.addAttribute("citas", citas);
-
-            List<ResenaDTO> resenas = resenaService.obtenerResenasPorUsuario(usuarioId);
-            model.addAttribute("resenas", resenas);
-
-            UsuarioDTO usuario = usuarioService.obtenerPerfil(token);
-            model.addAttribute("usuario", usuario);
-
-            return "citas-cliente";
-        } catch (Exception e) {
-            System.err.println("Error al cargar citas: " + e.getMessage());
-            model.addAttribute("error", "Error al cargar las citas");
-            return "citas-cliente";
-        }
+    public Mono<String> verMisCitas(HttpSession session, Model model) {
+        if (!SessionUtil.estaAutenticado(session)) return Mono.just("redirect:/login");
+        if (!"cliente".equalsIgnoreCase(SessionUtil.obtenerRol(session))) return Mono.just("redirect:/dashboard");
+
+        String token = SessionUtil.obtenerToken(session);
+        Long usuarioId = SessionUtil.obtenerUsuarioId(session);
+
+        // El perfil se toma de la sesión si ya se ha pedido antes
+        UsuarioDTO perfilGuardado = SessionUtil.obtenerPerfil(session);
+        Mono<UsuarioDTO> perfil = perfilGuardado != null
+                ? Mono.just(perfilGuardado)
+                : apiGateway.perfil(token).doOnNext(p -> SessionUtil.guardarPerfil(session, p));
+
+        // Las llamadas se hacen a la vez y sin ocupar el hilo de la petición
+        ApiGateway.Composicion pagina = apiGateway.composicion();
+        return Mono.zip(
+                pagina.opcional(apiGateway.misCitas(token), List.<CitaDTO>of()),
+                pagina.opcional(apiGateway.resenasDeUsuario(usuarioId, token), List.<ResenaDTO>of()),
+                pagina.opcional(perfil))
+            .map(datos -> {
+                model.addAttribute("citas", datos.getT1());
+                model.addAttribute("resenas", datos.getT2());
+                model.addAttribute("usuario", datos.getT3().orElse(null));
+                if (pagina.incompleta()) {
+                    model.addAttribute("error", "Algunos datos no se han podido cargar");
+                }
+                return "citas-cliente";
+            });
     }
 
     /**
@@ -316,25 +328,38 @@ public class DashboardController {
 
     /**
      * Descargar PDF de servicios
+     * 
+     * El PDF se transmite desde la API sin guardarlo en memoria (ver
+     * {@link ServicioService#transmitirPdfServicios}). Si el navegador ya
+     * tiene la versión actual, recibe un 304.
      */
     @GetMapping("/cliente-servicios/descargar-pdf")
-    public ResponseEntity<byte[]> descargarPdfServicios(HttpSession session) {
+    public void descargarPdfServicios(HttpSession session,
+                                      @RequestHeader HttpHeaders cabeceras,
+                                      HttpServletResponse response) throws IOException {
         String nombre = SessionUtil.obtenerNombre(session);
         log.info("Descarga de PDF - Usuario: {}", nombre);
-        if (!SessionUtil.estaAutenticado(session)) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-
-        try {
-            byte[] pdfBytes = servicioService.descargarPdfServicios();
+        if (!SessionUtil.estaAutenticado(session)) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "servicios-estilo360.pdf");
+        HttpHeaders condicionales = new HttpHeaders();
+        for (String cabecera : List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE)) {
+            if (cabeceras.containsKey(cabecera)) {
+                condicionales.put(cabecera, cabeceras.get(cabecera));
+            }
+        }
 
-            return ResponseEntity.ok().headers(headers).body(pdfBytes);
+        try {
+            servicioService.transmitirPdfServicios(condicionales, response);
 
         } catch (Exception e) {
             log.error("Error al descargar PDF - Usuario: {}, Error: {}", nombre, e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
         }
     }
 
@@ -0,0 +1,17 @@
+package com.WebEstilo360.WebEstilo360.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardClienteDTO {
+    private UsuarioDTO usuario;
+    private CitaDTO proximaCita; // null si no tiene ninguna pendiente o confirmada
+    private List<CitaDTO> historial; // últimas citas pasadas
+    private List<CitaDTO> citas; // todas, de la más reciente a la más antigua
+}
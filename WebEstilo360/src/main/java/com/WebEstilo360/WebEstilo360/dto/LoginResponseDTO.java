@@ -9,4 +9,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class LoginResponseDTO {
     private String token;
+    private Long id_usuario;
+    private String nombre_completo;
+    private String correo;
+    private String rol;
+    private Long expira; // caducidad del token, en milisegundos desde epoch
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.WebEstilo360.WebEstilo360.dto;
 
+import java.io.Serializable;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UsuarioDTO {
+public class UsuarioDTO implements Serializable { // se guarda en la sesión (SessionUtil.guardarPerfil)
     private Long id_usuario;
     private String nombre_completo;
     private String correo;
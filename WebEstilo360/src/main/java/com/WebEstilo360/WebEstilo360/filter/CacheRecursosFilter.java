@@ -0,0 +1,121 @@
+package com.WebEstilo360.WebEstilo360.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Filtro que pone la cabecera Cache-Control de los recursos estáticos.
+ *
+ * Las plantillas enlazan los recursos con {@code @{...}}, que Spring reescribe
+ * añadiendo al nombre la huella del contenido (por ejemplo
+ * {@code /css/login-3f2a…9c.css}, ver {@code spring.web.resources.chain.*}).
+ * Esas URL cambian cuando cambia el fichero, así que se sirven con caché de un
+ * año e {@code immutable}: el navegador no vuelve a pedirlas ni a revalidarlas.
+ *
+ * Las URL sin huella (enlaces escritos a mano o páginas guardadas antes de un
+ * despliegue) se sirven con {@code no-cache}: el navegador las guarda pero las
+ * revalida, y recibe un 304 si no han cambiado.
+ *
+ * Las cabeceras solo se mantienen en las respuestas 2xx y 304. Un error (por
+ * ejemplo el 404 de una huella antigua tras un despliegue) se sirve con
+ * {@code no-store} para que ninguna caché compartida lo guarde.
+ *
+ * @version 1.1
+ */
+@Component
+public class CacheRecursosFilter extends OncePerRequestFilter {
+
+    /** Rutas de los recursos estáticos */
+    private static final String[] RUTAS = {"/css/", "/images/", "/js/"};
+
+    /** Nombre de fichero con la huella MD5 del contenido */
+    private static final Pattern CON_HUELLA = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    /** Cabecera para las URL con huella */
+    private static final String INMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    /** Cabecera para las URL sin huella */
+    private static final String REVALIDAR = CacheControl.noCache().getHeaderValue();
+
+    /** Cabecera para las respuestas de error */
+    private static final String NO_GUARDAR = CacheControl.noStore().getHeaderValue();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefijo : RUTAS) {
+            if (ruta.startsWith(prefijo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        boolean conHuella = CON_HUELLA.matcher(request.getRequestURI()).find();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, conHuella ? INMUTABLE : REVALIDAR);
+        chain.doFilter(request, new CacheSegunEstado(response));
+    }
+
+    /**
+     * Indica si una respuesta con ese estado puede guardarse en caché.
+     *
+     * @param estado Código de estado HTTP
+     * @return true para 2xx y 304
+     */
+    private static boolean cacheable(int estado) {
+        return (estado >= 200 && estado < 300) || estado == HttpServletResponse.SC_NOT_MODIFIED;
+    }
+
+    /**
+     * Respuesta que sustituye el Cache-Control por {@code no-store} cuando el
+     * estado no es cacheable. La cabecera se pone antes de servir el recurso
+     * porque, una vez escrito el cuerpo, ya no se puede cambiar.
+     */
+    private static final class CacheSegunEstado extends HttpServletResponseWrapper {
+
+        private CacheSegunEstado(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setStatus(int estado) {
+            comprobar(estado);
+            super.setStatus(estado);
+        }
+
+        @Override
+        public void sendError(int estado) throws IOException {
+            comprobar(estado);
+            super.sendError(estado);
+        }
+
+        @Override
+        public void sendError(int estado, String mensaje) throws IOException {
+            comprobar(estado);
+            super.sendError(estado, mensaje);
+        }
+
+        private void comprobar(int estado) {
+            if (!cacheable(estado)) {
+                super.setHeader(HttpHeaders.CACHE_CONTROL, NO_GUARDAR);
+            }
+        }
+    }
+}
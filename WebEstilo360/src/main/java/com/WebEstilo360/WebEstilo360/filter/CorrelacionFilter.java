@@ -0,0 +1,58 @@
+package com.WebEstilo360.WebEstilo360.filter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que asigna un identificador de correlación a cada petición del navegador.
+ *
+ * El identificador se guarda en el MDC, aparece en los logs de la web y se
+ * envía a la API en las llamadas que se hacen durante la petición (ver
+ * {@link com.WebEstilo360.WebEstilo360.interceptor.CorrelacionInterceptor}),
+ * de modo que los logs de ambas aplicaciones se pueden relacionar.
+ *
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelacionFilter extends OncePerRequestFilter {
+
+    /** Cabecera HTTP del identificador de correlación */
+    public static final String CABECERA = "X-Correlation-Id";
+
+    /** Clave del identificador en el MDC */
+    public static final String MDC_CLAVE = "correlationId";
+
+    /** Formato aceptado para los identificadores recibidos */
+    private static final Pattern FORMATO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String id = request.getHeader(CABECERA);
+        if (id == null || !FORMATO.matcher(id).matches()) {
+            id = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_CLAVE, id);
+        response.setHeader(CABECERA, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_CLAVE);
+        }
+    }
+}
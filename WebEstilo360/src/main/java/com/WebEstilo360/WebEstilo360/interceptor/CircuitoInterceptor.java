@@ -0,0 +1,323 @@
+package com.WebEstilo360.WebEstilo360.interceptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Interceptor que protege las llamadas a la API con un circuit breaker por
+ * endpoint y, en las lecturas, con la última respuesta correcta.
+ *
+ * Cada endpoint (método y ruta, con los identificadores numéricos
+ * sustituidos por {@code {id}}) tiene su propio circuit breaker de
+ * Resilience4j, configurado en {@code resilience4j.circuitbreaker.*}. Cuentan
+ * como fallo los errores de conexión y las respuestas 5xx; los 4xx son
+ * respuestas válidas de la API. Con el circuito abierto las llamadas fallan
+ * al momento, sin esperar al timeout. Pasado un tiempo se dejan pasar unas
+ * pocas de prueba (semiabierto) para comprobar si la API se ha recuperado.
+ *
+ * Las respuestas JSON correctas de las peticiones GET se guardan en memoria,
+ * con la cabecera Authorization como parte de la clave para no mezclar
+ * datos de usuarios distintos. Las de otro tipo (por ejemplo el PDF del
+ * catálogo) no se leen, para que el llamante pueda transmitirlas sin
+ * cargarlas en memoria. Si la llamada falla o el circuito está
+ * abierto, se devuelve la última respuesta guardada con la cabecera
+ * {@value #CABECERA_RESPALDO}. Cada uso se cuenta en la métrica
+ * {@code estilo360.api.respaldo}. El total guardado está limitado en bytes
+ * por {@code app.api.respaldo.max-bytes-total}.
+ *
+ * @version 1.4
+ */
+@Component
+public class CircuitoInterceptor implements ClientHttpRequestInterceptor {
+
+    /** Cabecera que marca una respuesta servida desde el respaldo */
+    public static final String CABECERA_RESPALDO = "X-Estilo360-Respaldo";
+
+    /** Segmentos numéricos de una ruta */
+    private static final Pattern ID = Pattern.compile("/\\d+(?=/|$)");
+
+    /** Circuit breakers por endpoint */
+    private final CircuitBreakerRegistry circuitos;
+
+    /** Registro de métricas */
+    private final MeterRegistry registry;
+
+    /** Últimas respuestas correctas de las peticiones GET */
+    private final Cache<String, Respuesta> respaldo;
+
+    /** Tamaño máximo de una respuesta que se guarda */
+    private final int maxBytes;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(CircuitoInterceptor.class);
+
+    /** Respuesta guardada */
+    private record Respuesta(HttpStatusCode estado, HttpHeaders cabeceras, byte[] cuerpo) {
+    }
+
+    /**
+     * Crea el interceptor.
+     *
+     * @param circuitos Registro de circuit breakers
+     * @param registry Registro de métricas
+     * @param maxBytesTotal Tamaño máximo de todas las respuestas guardadas
+     * @param vidaMin Minutos que se conserva una respuesta guardada
+     * @param maxBytes Tamaño máximo de una respuesta que se guarda
+     */
+    public CircuitoInterceptor(CircuitBreakerRegistry circuitos,
+                               MeterRegistry registry,
+                               @Value("${app.api.respaldo.max-bytes-total:67108864}") long maxBytesTotal,
+                               @Value("${app.api.respaldo.vida-min:30}") long vidaMin,
+                               @Value("${app.api.respaldo.max-bytes:262144}") int maxBytes) {
+        this.circuitos = circuitos;
+        this.registry = registry;
+        this.maxBytes = maxBytes;
+        this.respaldo = Caffeine.newBuilder()
+                .maximumWeight(maxBytesTotal)
+                .weigher((String clave, Respuesta respuesta) -> Math.max(respuesta.cuerpo().length, 1))
+                .expireAfterWrite(Duration.ofMinutes(vidaMin))
+                .build();
+    }
+
+    /**
+     * Nombre del endpoint de una petición, que identifica su circuit breaker.
+     *
+     * Se usa la ruta decodificada de la URI completa, prefijo de
+     * {@code api.base.url} incluido, para que RestTemplate y
+     * {@link com.WebEstilo360.WebEstilo360.service.ApiGateway} den el mismo
+     * nombre a la misma llamada aunque la codifiquen de forma distinta.
+     *
+     * @param metodo Método HTTP
+     * @param uri URI de la petición
+     * @return Nombre del endpoint, por ejemplo {@code GET /citas/{id}}
+     */
+    public static String endpoint(String metodo, URI uri) {
+        return metodo + " " + ID.matcher(uri.getPath()).replaceAll("/{id}");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String endpoint = endpoint(request.getMethod().name(), request.getURI());
+        CircuitBreaker circuito = circuitos.circuitBreaker(endpoint);
+        boolean lectura = HttpMethod.GET.equals(request.getMethod());
+        String clave = lectura ? clave(request) : null;
+
+        if (!circuito.tryAcquirePermission()) {
+            log.debug("Circuito abierto en {}", endpoint);
+            return respaldoOFallo(endpoint, clave, CallNotPermittedException.createCallNotPermittedException(circuito));
+        }
+
+        long inicio = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            circuito.onError(System.nanoTime() - inicio, TimeUnit.NANOSECONDS, e);
+            return respaldoOFallo(endpoint, clave, e);
+        }
+
+        long duracion = System.nanoTime() - inicio;
+        if (response.getStatusCode().is5xxServerError()) {
+            circuito.onError(duracion, TimeUnit.NANOSECONDS,
+                    new IOException("Respuesta " + response.getStatusCode().value() + " de " + endpoint));
+            Respuesta guardada = clave != null ? respaldo.getIfPresent(clave) : null;
+            if (guardada != null) {
+                response.close();
+                return servirRespaldo(endpoint, guardada);
+            }
+            return response;
+        }
+
+        circuito.onSuccess(duracion, TimeUnit.NANOSECONDS);
+        if (clave != null && response.getStatusCode().is2xxSuccessful()) {
+            return guardar(clave, response);
+        }
+        return response;
+    }
+
+    /**
+     * Devuelve la última respuesta correcta guardada o, si no hay, propaga el fallo.
+     */
+    private ClientHttpResponse respaldoOFallo(String endpoint, String clave, Exception fallo) throws IOException {
+        Respuesta guardada = clave != null ? respaldo.getIfPresent(clave) : null;
+        if (guardada != null) {
+            return servirRespaldo(endpoint, guardada);
+        }
+        if (fallo instanceof IOException io) {
+            throw io;
+        }
+        throw (RuntimeException) fallo;
+    }
+
+    private ClientHttpResponse servirRespaldo(String endpoint, Respuesta guardada) {
+        registry.counter("estilo360.api.respaldo", "endpoint", endpoint).increment();
+        log.warn("API no disponible en {}: se usa la última respuesta correcta", endpoint);
+
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.putAll(guardada.cabeceras());
+        cabeceras.set(CABECERA_RESPALDO, "true");
+        return new RespuestaEnMemoria(guardada.estado(), cabeceras, guardada.cuerpo());
+    }
+
+    /**
+     * Lee el cuerpo de una respuesta JSON correcta, la guarda si no es
+     * demasiado grande y devuelve una copia en memoria para el llamante.
+     *
+     * Si la respuesta no indica su tamaño (chunked), se leen como mucho
+     * {@code maxBytes + 1} bytes: si hay más, no se guarda y el llamante
+     * recibe lo leído seguido del resto del cuerpo sin leer.
+     */
+    private ClientHttpResponse guardar(String clave, ClientHttpResponse response) throws IOException {
+        long longitud = response.getHeaders().getContentLength();
+        MediaType tipo = response.getHeaders().getContentType();
+        if (longitud > maxBytes || tipo == null || !MediaType.APPLICATION_JSON.isCompatibleWith(tipo)) {
+            return response;
+        }
+
+        HttpStatusCode estado = response.getStatusCode();
+        HttpHeaders cabeceras = HttpHeaders.readOnlyHttpHeaders(response.getHeaders());
+        byte[] cuerpo;
+        try {
+            cuerpo = response.getBody().readNBytes(maxBytes + 1);
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+
+        if (cuerpo.length > maxBytes) {
+            return new RespuestaContinuada(response, cuerpo);
+        }
+        response.close();
+        respaldo.put(clave, new Respuesta(estado, cabeceras, cuerpo));
+        return new RespuestaEnMemoria(estado, cabeceras, cuerpo);
+    }
+
+    /**
+     * Clave de una lectura: URI y huella de la cabecera Authorization, para
+     * no guardar el token en claro ni mezclar respuestas de usuarios distintos.
+     */
+    private static String clave(HttpRequest request) {
+        String autorizacion = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (autorizacion == null) {
+            return request.getURI().toString();
+        }
+        try {
+            byte[] huella = MessageDigest.getInstance("SHA-256")
+                    .digest(autorizacion.getBytes(StandardCharsets.UTF_8));
+            return request.getURI() + "#" + HexFormat.of().formatHex(huella);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Respuesta HTTP de la que ya se ha leído el principio del cuerpo */
+    private static final class RespuestaContinuada implements ClientHttpResponse {
+
+        private final ClientHttpResponse original;
+        private final byte[] leido;
+        private InputStream cuerpo;
+
+        private RespuestaContinuada(ClientHttpResponse original, byte[] leido) {
+            this.original = original;
+            this.leido = leido;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return original.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return original.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return original.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (cuerpo == null) {
+                cuerpo = new SequenceInputStream(new ByteArrayInputStream(leido), original.getBody());
+            }
+            return cuerpo;
+        }
+
+        @Override
+        public void close() {
+            original.close();
+        }
+    }
+
+    /** Respuesta HTTP con el cuerpo ya leído */
+    private static final class RespuestaEnMemoria implements ClientHttpResponse {
+
+        private final HttpStatusCode estado;
+        private final HttpHeaders cabeceras;
+        private final byte[] cuerpo;
+
+        private RespuestaEnMemoria(HttpStatusCode estado, HttpHeaders cabeceras, byte[] cuerpo) {
+            this.estado = estado;
+            this.cabeceras = cabeceras;
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return estado;
+        }
+
+        @Override
+        public String getStatusText() {
+            return "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return cabeceras;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(cuerpo);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.WebEstilo360.WebEstilo360.interceptor;
+
+import java.io.IOException;
+
+import org.slf4j.MDC;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.WebEstilo360.WebEstilo360.filter.CorrelacionFilter;
+
+/**
+ * Interceptor que envía a la API el identificador de correlación de la petición actual.
+ *
+ * Añade la cabecera {@code X-Correlation-Id} con el valor del MDC, de modo
+ * que la API registra sus logs con el mismo identificador que la web.
+ *
+ * @version 1.0
+ */
+@Component
+public class CorrelacionInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * Añade la cabecera de correlación si hay un identificador en el MDC.
+     *
+     * @param request La solicitud HTTP que será enviada
+     * @param body El cuerpo de la solicitud HTTP
+     * @param execution Objeto que permite continuar la ejecución de la solicitud
+     * @return La respuesta HTTP recibida
+     * @throws IOException si falla la llamada
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String id = MDC.get(CorrelacionFilter.MDC_CLAVE);
+        if (id != null && !request.getHeaders().containsKey(CorrelacionFilter.CABECERA)) {
+            request.getHeaders().set(CorrelacionFilter.CABECERA, id);
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -1,7 +1,5 @@
 package com.WebEstilo360.WebEstilo360.interceptor;
 
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -12,6 +10,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
  * Interceptor para agregar automáticamente el token JWT a las solicitudes HTTP salientes.
@@ -19,11 +18,18 @@ import java.io.IOException;
  * las llamadas HTTP realizadas por RestTemplate u otros clientes HTTP de Spring.
  * Obtiene el token almacenado en la sesión actual y lo añade al header "Authorization".
  * 
- * @version 1.0
+ * Las llamadas que se hacen fuera del hilo de la petición (ver
+ * {@link com.WebEstilo360.WebEstilo360.service.LlamadasConcurrentes}) no tienen
+ * acceso a la sesión: reciben el token ya leído mediante {@link #conToken}.
+ * 
+ * @version 1.1
  */
 @Component
 public class JwtInterceptor implements ClientHttpRequestInterceptor {
 
+    /** Token de las llamadas hechas fuera del hilo de la petición */
+    private static final ThreadLocal<String> TOKEN = new ThreadLocal<>();
+
     /**
      * Intercepta la solicitud HTTP antes de enviarla.
      * Si existe un token JWT en la sesión, lo agrega al header "Authorization".
@@ -37,6 +43,28 @@ public class JwtInterceptor implements ClientHttpRequestInterceptor {
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, 
                                        ClientHttpRequestExecution execution) throws IOException {
         
+        String token = tokenActual();
+        
+        if (token != null && !token.isEmpty()) {
+            // Agregar el token al header Authorization
+            request.getHeaders().add("Authorization", "Bearer " + token);
+        }
+        
+        return execution.execute(request, body);
+    }
+
+    /**
+     * Obtiene el token de la llamada en curso: el recibido con {@link #conToken}
+     * o, en el hilo de la petición, el guardado en la sesión.
+     * 
+     * @return Token JWT, o null si no hay
+     */
+    public static String tokenActual() {
+        String token = TOKEN.get();
+        if (token != null) {
+            return token;
+        }
+
         // Obtener la sesión actual
         ServletRequestAttributes attributes = 
             (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -45,15 +73,26 @@ public class JwtInterceptor implements ClientHttpRequestInterceptor {
             HttpSession session = attributes.getRequest().getSession(false);
             
             if (session != null) {
-                String token = (String) session.getAttribute("token");
-                
-                if (token != null && !token.isEmpty()) {
-                    // Agregar el token al header Authorization
-                    request.getHeaders().add("Authorization", "Bearer " + token);
-                }
+                return (String) session.getAttribute("token");
             }
         }
-        
-        return execution.execute(request, body);
+        return null;
+    }
+
+    /**
+     * Ejecuta una llamada fuera del hilo de la petición con el token indicado.
+     * 
+     * @param <T> Tipo del resultado
+     * @param token Token JWT leído en el hilo de la petición, o null
+     * @param llamada Llamada a la API
+     * @return Resultado de la llamada
+     */
+    public static <T> T conToken(String token, Supplier<T> llamada) {
+        TOKEN.set(token);
+        try {
+            return llamada.get();
+        } finally {
+            TOKEN.remove();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,310 @@
+package com.WebEstilo360.WebEstilo360.service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import com.WebEstilo360.WebEstilo360.dto.CitaDTO;
+import com.WebEstilo360.WebEstilo360.dto.ResenaDTO;
+import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
+import com.WebEstilo360.WebEstilo360.filter.CorrelacionFilter;
+import com.WebEstilo360.WebEstilo360.interceptor.CircuitoInterceptor;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Cliente no bloqueante de la API basado en WebClient.
+ *
+ * A diferencia de los servicios basados en RestTemplate, las llamadas no
+ * ocupan un hilo mientras esperan la respuesta: devuelven un {@link Mono} que
+ * los controladores combinan (por ejemplo con {@code Mono.zip}) y devuelven a
+ * Spring MVC, que libera el hilo de la petición hasta que llegan los datos.
+ *
+ * <ul>
+ *   <li>El token se pasa explícitamente en cada llamada; no se lee de la
+ *       sesión, que no está disponible en los hilos de Reactor.</li>
+ *   <li>Cada endpoint tiene un compartimento (bulkhead) con un máximo de
+ *       llamadas simultáneas. Si está lleno, la llamada falla al momento en
+ *       lugar de hacer cola, y un endpoint lento no acapara todas las
+ *       conexiones.</li>
+ *   <li>Cada llamada tiene un plazo máximo de respuesta.</li>
+ *   <li>Cada endpoint comparte circuit breaker con las llamadas de
+ *       RestTemplate (ver {@link CircuitoInterceptor}): con el circuito
+ *       abierto la llamada falla al momento.</li>
+ * </ul>
+ *
+ * Para las páginas con varias llamadas, {@link #composicion()} permite
+ * sustituir por un valor por defecto las que fallan y saber si la página
+ * se muestra incompleta.
+ *
+ * Las rutas se pasan como plantillas con variables (por ejemplo
+ * {@code "/reseñas/usuario/{id}"}), igual que en los servicios de
+ * RestTemplate, para que la métrica {@code http.client.requests} se etiquete
+ * con la plantilla y no con cada identificador.
+ *
+ * @version 1.3
+ */
+@Component
+public class ApiGateway {
+
+    /** Cliente HTTP no bloqueante hacia la API */
+    private final WebClient webClient;
+
+    /** Construye las URI de la API, codificadas como las de RestTemplate */
+    private final DefaultUriBuilderFactory uris;
+
+    /** Llamadas simultáneas máximas por endpoint */
+    private final int maxPorEndpoint;
+
+    /** Plazo máximo de cada llamada */
+    private final Duration plazo;
+
+    /** Compartimentos por endpoint */
+    private final Map<String, Semaphore> compartimentos = new ConcurrentHashMap<>();
+
+    /** Registro de métricas */
+    private final MeterRegistry registry;
+
+    /** Circuit breakers por endpoint */
+    private final CircuitBreakerRegistry circuitos;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(ApiGateway.class);
+
+    /**
+     * Crea el cliente de la API.
+     *
+     * @param builder Constructor de WebClient de Spring Boot (añade las métricas de cliente)
+     * @param registry Registro de métricas
+     * @param circuitos Registro de circuit breakers
+     * @param apiBaseUrl URL base de la API
+     * @param maxConexiones Conexiones máximas del pool
+     * @param maxPorEndpoint Llamadas simultáneas máximas por endpoint
+     * @param timeoutConexionMs Tiempo máximo para abrir una conexión
+     * @param plazoMs Plazo máximo de cada llamada
+     */
+    public ApiGateway(WebClient.Builder builder,
+                      MeterRegistry registry,
+                      CircuitBreakerRegistry circuitos,
+                      @Value("${api.base.url}") String apiBaseUrl,
+                      @Value("${app.api.gateway.max-conexiones:200}") int maxConexiones,
+                      @Value("${app.api.gateway.max-por-endpoint:50}") int maxPorEndpoint,
+                      @Value("${app.api.gateway.timeout-conexion-ms:2000}") int timeoutConexionMs,
+                      @Value("${app.api.gateway.plazo-ms:3000}") long plazoMs) {
+
+        ConnectionProvider pool = ConnectionProvider.builder("api")
+                .maxConnections(maxConexiones)
+                .pendingAcquireTimeout(Duration.ofMillis(plazoMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutConexionMs)
+                .responseTimeout(Duration.ofMillis(plazoMs));
+
+        this.uris = new DefaultUriBuilderFactory(apiBaseUrl);
+        this.uris.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+        this.webClient = builder
+                .uriBuilderFactory(uris)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.registry = registry;
+        this.circuitos = circuitos;
+        this.maxPorEndpoint = maxPorEndpoint;
+        this.plazo = Duration.ofMillis(plazoMs);
+    }
+
+    /**
+     * Obtiene todas las citas del usuario autenticado.
+     *
+     * @param token Token JWT del usuario
+     * @return Citas del usuario
+     */
+    public Mono<List<CitaDTO>> misCitas(String token) {
+        return get("citas.mis-citas", "/citas/mis-citas", token,
+                new ParameterizedTypeReference<List<CitaDTO>>() {})
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Obtiene las reseñas escritas por un usuario.
+     *
+     * @param usuarioId ID del usuario
+     * @param token Token JWT del usuario
+     * @return Reseñas del usuario
+     */
+    public Mono<List<ResenaDTO>> resenasDeUsuario(Long usuarioId, String token) {
+        return get("resenas.usuario", "/reseñas/usuario/{id}", token,
+                new ParameterizedTypeReference<List<ResenaDTO>>() {}, usuarioId)
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Obtiene el perfil del usuario autenticado.
+     *
+     * @param token Token JWT del usuario
+     * @return Perfil del usuario
+     */
+    public Mono<UsuarioDTO> perfil(String token) {
+        return get("usuarios.perfil", "/usuarios/perfil", token,
+                new ParameterizedTypeReference<UsuarioDTO>() {});
+    }
+
+    /**
+     * Hace una petición GET a la API dentro del compartimento del endpoint.
+     *
+     * @param <T> Tipo de la respuesta
+     * @param endpoint Nombre del endpoint (compartimento y logs)
+     * @param ruta Plantilla de la ruta, relativa a la URL base de la API
+     * @param token Token JWT, o null para llamadas sin autenticar
+     * @param tipo Tipo de la respuesta
+     * @param variables Valores de las variables de la plantilla
+     * @return Respuesta de la API
+     */
+    public <T> Mono<T> get(String endpoint, String ruta, String token, ParameterizedTypeReference<T> tipo,
+                           Object... variables) {
+        // El MDC solo está en el hilo de la petición: se lee al crear la llamada
+        String correlacion = MDC.get(CorrelacionFilter.MDC_CLAVE);
+
+        // La URI expandida solo se usa para el nombre del circuit breaker;
+        // WebClient recibe la plantilla para etiquetar sus métricas con ella
+        URI uri = uris.expand(ruta, variables);
+
+        Mono<T> llamada = webClient.get()
+                .uri(ruta, variables)
+                .headers(cabeceras -> {
+                    if (token != null) {
+                        cabeceras.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                    }
+                    if (correlacion != null) {
+                        cabeceras.set(CorrelacionFilter.CABECERA, correlacion);
+                    }
+                })
+                .retrieve()
+                .bodyToMono(tipo)
+                .timeout(plazo)
+                .transformDeferred(CircuitBreakerOperator.of(
+                        circuitos.circuitBreaker(CircuitoInterceptor.endpoint("GET", uri))));
+
+        return enCompartimento(endpoint, llamada);
+    }
+
+    /**
+     * Ejecuta una llamada si el compartimento del endpoint tiene sitio.
+     *
+     * @param <T> Tipo de la respuesta
+     * @param endpoint Nombre del endpoint
+     * @param llamada Llamada a la API
+     * @return La llamada, o un error si el compartimento está lleno
+     */
+    private <T> Mono<T> enCompartimento(String endpoint, Mono<T> llamada) {
+        return Mono.defer(() -> {
+            Semaphore compartimento = compartimentos.computeIfAbsent(endpoint, this::crearCompartimento);
+            if (!compartimento.tryAcquire()) {
+                return Mono.error(new RuntimeException("Demasiadas llamadas simultáneas a " + endpoint));
+            }
+            return llamada.doFinally(senal -> compartimento.release());
+        });
+    }
+
+    /**
+     * Crea el compartimento de un endpoint y publica su ocupación en la
+     * métrica {@code estilo360.api.compartimento.ocupadas}.
+     *
+     * @param endpoint Nombre del endpoint
+     * @return Semáforo del compartimento
+     */
+    private Semaphore crearCompartimento(String endpoint) {
+        Semaphore compartimento = new Semaphore(maxPorEndpoint);
+        Gauge.builder("estilo360.api.compartimento.ocupadas",
+                        compartimento, s -> maxPorEndpoint - s.availablePermits())
+                .description("Llamadas en curso a un endpoint de la API")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        return compartimento;
+    }
+
+    /**
+     * Crea una composición para combinar las llamadas de una página.
+     *
+     * @return Composición vacía
+     */
+    public Composicion composicion() {
+        return new Composicion();
+    }
+
+    /**
+     * Llamadas de una misma página que se combinan tolerando fallos: la que
+     * falla se sustituye por un valor por defecto y la página se marca como
+     * incompleta.
+     */
+    public static class Composicion {
+
+        /** Indica si alguna llamada ha fallado */
+        private final AtomicBoolean incompleta = new AtomicBoolean();
+
+        /**
+         * Sustituye por un valor por defecto el resultado de una llamada que falla.
+         *
+         * @param <T> Tipo del resultado
+         * @param llamada Llamada a la API
+         * @param porDefecto Valor si la llamada falla
+         * @return Llamada que no falla
+         */
+        public <T> Mono<T> opcional(Mono<T> llamada, T porDefecto) {
+            return llamada
+                    .defaultIfEmpty(porDefecto)
+                    .onErrorResume(e -> {
+                        log.warn("Llamada a la API fallida: {}", e.getMessage());
+                        incompleta.set(true);
+                        return Mono.just(porDefecto);
+                    });
+        }
+
+        /**
+         * Envuelve en un Optional el resultado de una llamada, vacío si falla.
+         * {@code Mono.zip} no admite valores null.
+         *
+         * @param <T> Tipo del resultado
+         * @param llamada Llamada a la API
+         * @return Llamada que no falla
+         */
+        public <T> Mono<Optional<T>> opcional(Mono<T> llamada) {
+            return opcional(llamada.map(Optional::of), Optional.empty());
+        }
+
+        /**
+         * Indica si alguna llamada ha fallado.
+         *
+         * @return true si la página se muestra incompleta
+         */
+        public boolean incompleta() {
+            return incompleta.get();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.WebEstilo360.WebEstilo360.service;
 
 import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
+import com.WebEstilo360.WebEstilo360.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
@@ -19,7 +22,7 @@ import java.util.List;
  * Este servicio maneja la comunicación HTTP y la lógica de manejo de errores
  * relacionados con la API externa.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @RequiredArgsConstructor
@@ -28,29 +31,35 @@ public class ApiUsuarioService {
     /** Cliente HTTP para realizar solicitudes REST */
     private final RestTemplate restTemplate;
 
+    /** Gestor de las cachés de listas de referencia */
+    private final CacheReferencias cacheReferencias;
+
+    /** Lista de usuarios guardada en caché */
+    private CacheReferencias.CacheReferencia<List<UsuarioDTO>> cacheUsuarios;
+
     /** URL base de la API, inyectada desde configuración */
     @Value("${api.base.url}")
     private String apiBaseUrl;
 
+    /**
+     * Crea la caché de la lista de usuarios.
+     */
+    @PostConstruct
+    void crearCache() {
+        cacheUsuarios = cacheReferencias.crear(CacheReferencias.USUARIOS, this::cargarUsuarios);
+    }
+
     /**
      * Obtiene todos los usuarios desde la API.
      * Requiere token válido de admin o cliente.
+     * La lista se guarda en caché (ver {@link CacheReferencias}).
      * 
      * @return Lista de usuarios obtenida de la API. Puede ser vacía si ocurre un error.
      * @throws RuntimeException Si la sesión ha expirado o el usuario no tiene permisos
      */
     public List<UsuarioDTO> listarTodosLosUsuarios() {
         try {
-            String url = apiBaseUrl + "/usuarios";
-
-            ResponseEntity<List<UsuarioDTO>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<UsuarioDTO>>() {}
-            );
-
-            return response.getBody();
+            return cacheUsuarios.obtener();
 
         } catch (HttpClientErrorException.Unauthorized e) {
             System.err.println("No autorizado para listar usuarios");
@@ -64,6 +73,24 @@ public class ApiUsuarioService {
         }
     }
 
+    /**
+     * Pide a la API la lista de usuarios, sin pasar por la caché.
+     * 
+     * @return Lista de UsuarioDTO
+     */
+    private List<UsuarioDTO> cargarUsuarios() {
+        String url = apiBaseUrl + "/usuarios";
+
+        ResponseEntity<List<UsuarioDTO>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<UsuarioDTO>>() {}
+        );
+
+        return response.getBody();
+    }
+
     /**
      * Obtiene un usuario por su ID desde la API.
      * Requiere token válido de admin o cliente.
@@ -74,11 +101,12 @@ public class ApiUsuarioService {
      */
     public UsuarioDTO obtenerUsuarioPorId(Long id) {
         try {
-            String url = apiBaseUrl + "/usuarios/" + id;
+            String url = apiBaseUrl + "/usuarios/{id}";
 
             ResponseEntity<UsuarioDTO> response = restTemplate.getForEntity(
                 url,
-                UsuarioDTO.class
+                UsuarioDTO.class,
+                id
             );
 
             return response.getBody();
@@ -116,6 +144,7 @@ public class ApiUsuarioService {
                 request,
                 UsuarioDTO.class
             );
+            cacheUsuarios.invalidar();
 
             return response.getBody();
 
@@ -143,7 +172,7 @@ public class ApiUsuarioService {
      */
     public UsuarioDTO actualizarUsuario(Long id, UsuarioDTO usuarioDTO) {
         try {
-            String url = apiBaseUrl + "/usuarios/" + id;
+            String url = apiBaseUrl + "/usuarios/{id}";
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -154,8 +183,10 @@ public class ApiUsuarioService {
                 url,
                 HttpMethod.PUT,
                 request,
-                UsuarioDTO.class
+                UsuarioDTO.class,
+                id
             );
+            cacheUsuarios.invalidar();
 
             return response.getBody();
 
@@ -181,9 +212,10 @@ public class ApiUsuarioService {
      */
     public void eliminarUsuario(Long id) {
         try {
-            String url = apiBaseUrl + "/usuarios/" + id;
+            String url = apiBaseUrl + "/usuarios/{id}";
 
-            restTemplate.delete(url);
+            restTemplate.delete(url, id);
+            cacheUsuarios.invalidar();
 
         } catch (HttpClientErrorException.Unauthorized e) {
             throw new RuntimeException("Sesión expirada. Inicie sesión nuevamente.");
@@ -197,6 +229,25 @@ public class ApiUsuarioService {
         }
     } 
     
+    /**
+     * Obtiene el perfil del usuario de la sesión. Usa el perfil guardado en la
+     * sesión y solo lo pide a la API si no hay ninguno.
+     * 
+     * @param session Sesión HTTP del usuario
+     * @return UsuarioDTO con los datos del perfil, o null si ocurre un error
+     * @throws RuntimeException Si la sesión ha expirado
+     */
+    public UsuarioDTO obtenerPerfil(HttpSession session) {
+        UsuarioDTO perfil = SessionUtil.obtenerPerfil(session);
+        if (perfil == null) {
+            perfil = obtenerPerfil(SessionUtil.obtenerToken(session));
+            if (perfil != null) {
+                SessionUtil.guardarPerfil(session, perfil);
+            }
+        }
+        return perfil;
+    }
+
     /**
      * Obtiene el perfil del usuario actual usando un token JWT.
      * 
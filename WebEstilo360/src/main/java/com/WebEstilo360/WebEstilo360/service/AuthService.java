@@ -30,6 +30,9 @@ public class AuthService {
     /** Cliente HTTP para realizar solicitudes REST */
     private final RestTemplate restTemplate;
 
+    /** Cachés de listas de referencia, para descartar la de usuarios al registrar uno */
+    private final CacheReferencias cacheReferencias;
+
     /** URL base de la API, inyectada desde configuración */
     @Value("${api.base.url}")
     private String apiBaseUrl;
@@ -119,6 +122,7 @@ public class AuthService {
             HttpEntity<UsuarioDTO> request = new HttpEntity<>(usuarioDTO, headers);
 
             restTemplate.postForEntity(url, request, Void.class);
+            cacheReferencias.invalidar(CacheReferencias.USUARIOS);
 
         } catch (HttpClientErrorException.BadRequest e) {
             throw new RuntimeException("Datos inválidos o correo ya registrado");
@@ -213,24 +217,4 @@ public class AuthService {
             throw new RuntimeException("Error al cambiar la contraseña");
         }
     }
-    
-    /**
-     * Obtiene los datos de un usuario por su correo.
-     * 
-     * @param correo Correo del usuario
-     * @return UsuarioDTO correspondiente al correo, o null si ocurre un error
-     */
-    public UsuarioDTO obtenerUsuarioPorCorreo(String correo) {
-        try {
-            String url = apiBaseUrl + "/usuarios/buscar-por-correo?correo=" + correo;
-            
-            ResponseEntity<UsuarioDTO> response = restTemplate.getForEntity(url, UsuarioDTO.class);
-            
-            return response.getBody();
-            
-        } catch (Exception e) {
-            System.err.println("Error al obtener usuario por correo: " + e.getMessage());
-            return null;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.WebEstilo360.WebEstilo360.service;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caché del HTML de las partes de página que no dependen del usuario.
+ *
+ * Una parte es una plantilla aparte (en {@code templates/fragmentos/}) que se
+ * procesa una vez por versión de sus datos y se inserta en la página con
+ * {@code th:utext}. Mientras la versión no cambia, las páginas reutilizan el
+ * HTML ya generado en lugar de volver a recorrer la lista.
+ *
+ * Las partes se procesan fuera de la petición: no pueden usar datos de la
+ * sesión ni enlaces {@code @{...}}, y el texto debe escaparse con
+ * {@code th:text} como en cualquier plantilla.
+ *
+ * Aciertos y fallos se publican en las métricas {@code cache.*} con la
+ * etiqueta {@code cache=fragmentos}.
+ *
+ * @version 1.0
+ */
+@Component
+public class CacheFragmentos {
+
+    /** Catálogo de servicios de la vista de servicios del cliente */
+    public static final String CATALOGO_SERVICIOS = "fragmentos/catalogo-servicios";
+
+    /** HTML generado, por plantilla y versión */
+    private final Cache<String, String> cache;
+
+    /** Motor de plantillas */
+    private final ITemplateEngine motor;
+
+    /**
+     * Crea la caché de fragmentos.
+     *
+     * @param motor Motor de plantillas
+     * @param registry Registro de métricas
+     * @param maxEntradas Fragmentos guardados como máximo
+     */
+    public CacheFragmentos(ITemplateEngine motor,
+                           MeterRegistry registry,
+                           @Value("${app.cache.fragmentos.max-entradas:100}") long maxEntradas) {
+        this.motor = motor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "fragmentos");
+    }
+
+    /**
+     * Devuelve el HTML de un fragmento, generándolo solo si no hay uno guardado
+     * para esa versión de los datos.
+     *
+     * @param plantilla Plantilla del fragmento
+     * @param version Versión de los datos del fragmento
+     * @param variables Datos del fragmento
+     * @return HTML del fragmento
+     */
+    public String renderizar(String plantilla, long version, Map<String, Object> variables) {
+        return cache.get(plantilla + "@" + version,
+                clave -> motor.process(plantilla, new Context(Locale.getDefault(), variables)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.WebEstilo360.WebEstilo360.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caché en la web de las listas de referencia que se piden a la API
+ * (empleados, servicios y usuarios).
+ *
+ * Estas listas se usan en casi todas las páginas para mostrar nombres en lugar
+ * de identificadores y cambian muy poco. Cada lista se guarda con dos plazos:
+ * <ul>
+ *   <li>Pasado el plazo de refresco, se sigue devolviendo la lista guardada y
+ *       se pide una nueva a la API en segundo plano (stale-while-revalidate).
+ *       Si la API falla, se mantiene la lista anterior.</li>
+ *   <li>Pasado el plazo de expiración sin refrescarse, la lista se descarta y
+ *       la siguiente petición espera a la API.</li>
+ * </ul>
+ * Los servicios invalidan su lista cuando la propia web crea, modifica o
+ * elimina un elemento. Los cambios hechos por otras vías se ven, como mucho,
+ * tras el plazo de refresco.
+ *
+ * Cada lista lleva un número de versión que solo cambia cuando cambia su
+ * contenido, para poder guardar en caché lo que se genera a partir de ella
+ * (por ejemplo el HTML del catálogo de servicios, ver {@link CacheFragmentos}).
+ *
+ * Aciertos, fallos y cargas se publican en las métricas {@code cache.*} con
+ * la etiqueta {@code cache=<nombre>}.
+ *
+ * Los refrescos en segundo plano no tienen la sesión del usuario, así que
+ * solo sirve para datos que la API entrega sin token.
+ *
+ * @version 1.1
+ */
+@Component
+public class CacheReferencias {
+
+    /** Clave única de cada caché: cada una guarda una sola lista */
+    private static final String CLAVE = "lista";
+
+    /** Nombres de las cachés de referencia */
+    public static final String EMPLEADOS = "empleados";
+    public static final String SERVICIOS = "servicios";
+    public static final String USUARIOS = "usuarios";
+
+    /** Cachés creadas, por nombre */
+    private final Map<String, LoadingCache<String, ?>> caches = new ConcurrentHashMap<>();
+
+    /** Registro de métricas */
+    private final MeterRegistry registry;
+
+    /** Tiempo tras el que una lista se refresca en segundo plano */
+    private final Duration refresco;
+
+    /** Tiempo tras el que una lista sin refrescar se descarta */
+    private final Duration expiracion;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(CacheReferencias.class);
+
+    /**
+     * Crea el gestor de cachés de referencia.
+     *
+     * @param registry Registro de métricas
+     * @param refrescoS Segundos tras los que una lista se refresca en segundo plano
+     * @param expiracionS Segundos tras los que una lista sin refrescar se descarta
+     */
+    public CacheReferencias(MeterRegistry registry,
+                            @Value("${app.cache.referencias.refresco-s:60}") long refrescoS,
+                            @Value("${app.cache.referencias.expiracion-s:600}") long expiracionS) {
+        this.registry = registry;
+        this.refresco = Duration.ofSeconds(refrescoS);
+        this.expiracion = Duration.ofSeconds(expiracionS);
+    }
+
+    /**
+     * Crea una caché de una lista de referencia.
+     *
+     * @param <T> Tipo de la lista
+     * @param nombre Nombre de la caché (para invalidarla y en las métricas)
+     * @param carga Llamada a la API que obtiene la lista; debe lanzar una
+     *              excepción si falla, para no guardar un resultado vacío
+     * @return Caché de la lista
+     */
+    public <T> CacheReferencia<T> crear(String nombre, Supplier<T> carga) {
+        AtomicLong versiones = new AtomicLong();
+        LoadingCache<String, Versionada<T>> cache = Caffeine.newBuilder()
+                .refreshAfterWrite(refresco)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build(new CacheLoader<String, Versionada<T>>() {
+                    @Override
+                    public Versionada<T> load(String clave) {
+                        log.debug("Cargando la lista de referencia '{}'", nombre);
+                        T valor = carga.get();
+                        return valor != null ? new Versionada<>(valor, versiones.incrementAndGet()) : null;
+                    }
+
+                    @Override
+                    public Versionada<T> reload(String clave, Versionada<T> anterior) {
+                        log.debug("Refrescando la lista de referencia '{}'", nombre);
+                        T valor = carga.get();
+                        if (valor != null && valor.equals(anterior.valor())) {
+                            // Sin cambios: se mantiene la versión
+                            return anterior;
+                        }
+                        return valor != null ? new Versionada<>(valor, versiones.incrementAndGet()) : null;
+                    }
+                });
+
+        caches.put(nombre, cache);
+        CaffeineCacheMetrics.monitor(registry, cache, nombre);
+        return new CacheReferencia<>(cache);
+    }
+
+    /**
+     * Descarta una lista de referencia, que se volverá a pedir a la API en el
+     * siguiente uso.
+     *
+     * @param nombre Nombre de la caché
+     */
+    public void invalidar(String nombre) {
+        LoadingCache<String, ?> cache = caches.get(nombre);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Lista de referencia con su versión.
+     *
+     * @param <T> Tipo de la lista
+     * @param valor Lista
+     * @param version Versión de la lista; las cargas empiezan en 1
+     */
+    public record Versionada<T>(T valor, long version) {
+    }
+
+    /**
+     * Caché de una lista de referencia.
+     *
+     * @param <T> Tipo de la lista
+     */
+    public static class CacheReferencia<T> {
+
+        private final LoadingCache<String, Versionada<T>> cache;
+
+        private CacheReferencia(LoadingCache<String, Versionada<T>> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * Devuelve la lista guardada, o la pide a la API si no hay ninguna.
+         * Las excepciones de la carga se propagan sin envolver.
+         *
+         * @return Lista de referencia
+         */
+        public T obtener() {
+            Versionada<T> lista = cache.get(CLAVE);
+            return lista != null ? lista.valor() : null;
+        }
+
+        /**
+         * Devuelve la lista guardada junto con su versión, o la pide a la API
+         * si no hay ninguna. Las excepciones de la carga se propagan sin envolver.
+         *
+         * @return Lista de referencia con su versión, o null si la API no devuelve nada
+         */
+        public Versionada<T> obtenerVersionada() {
+            return cache.get(CLAVE);
+        }
+
+        /**
+         * Descarta la lista guardada.
+         */
+        public void invalidar() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.WebEstilo360.WebEstilo360.service;
 
 import com.WebEstilo360.WebEstilo360.dto.CitaDTO;
+import com.WebEstilo360.WebEstilo360.dto.DashboardClienteDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -16,10 +17,11 @@ import java.util.Map;
 /**
  * Servicio para la gestión de citas.
  * Proporciona métodos para listar, crear, actualizar, eliminar y consultar citas,
- * así como obtener la próxima cita, historial y horarios disponibles.
+ * así como obtener la próxima cita, historial, horarios disponibles y los
+ * datos del dashboard del cliente.
  * Interactúa con la API externa mediante RestTemplate.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @RequiredArgsConstructor
@@ -64,9 +66,9 @@ public class CitaService {
      */
     public CitaDTO obtenerCitaPorId(Long id) {
         try {
-            String url = apiBaseUrl + "/citas/" + id;
+            String url = apiBaseUrl + "/citas/{id}";
             
-            ResponseEntity<CitaDTO> response = restTemplate.getForEntity(url, CitaDTO.class);
+            ResponseEntity<CitaDTO> response = restTemplate.getForEntity(url, CitaDTO.class, id);
             
             return response.getBody();
             
@@ -111,14 +113,14 @@ public class CitaService {
      */
     public void actualizarCita(Long id, CitaDTO citaDTO) {
         try {
-            String url = apiBaseUrl + "/citas/" + id;
+            String url = apiBaseUrl + "/citas/{id}";
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             
             HttpEntity<CitaDTO> request = new HttpEntity<>(citaDTO, headers);
             
-            restTemplate.put(url, request);
+            restTemplate.put(url, request, id);
             
         } catch (Exception e) {
             System.err.println("Error al actualizar cita: " + e.getMessage());
@@ -134,9 +136,9 @@ public class CitaService {
      */
     public void eliminarCita(Long id) {
         try {
-            String url = apiBaseUrl + "/citas/" + id;
+            String url = apiBaseUrl + "/citas/{id}";
             
-            restTemplate.delete(url);
+            restTemplate.delete(url, id);
             
         } catch (Exception e) {
             System.err.println("Error al eliminar cita: " + e.getMessage());
@@ -153,7 +155,7 @@ public class CitaService {
      */
     public void eliminarCita(Long citaId, String token) {
         try {
-            String url = apiBaseUrl + "/citas/" + citaId;
+            String url = apiBaseUrl + "/citas/{citaId}";
 
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "Bearer " + token);
@@ -164,7 +166,8 @@ public class CitaService {
                 url,
                 HttpMethod.DELETE,
                 request,
-                Void.class
+                Void.class,
+                citaId
             );
 
         } catch (Exception e) {
@@ -263,6 +266,38 @@ public class CitaService {
         }
     }
  
+    /**
+     * Obtiene en una sola petición los datos del dashboard del cliente:
+     * perfil, próxima cita, historial y todas sus citas.
+     * 
+     * @param token Token de autorización del usuario
+     * @return DashboardClienteDTO con los datos del cliente
+     * @throws RuntimeException Si ocurre un error al obtener los datos
+     */
+    public DashboardClienteDTO obtenerDashboardCliente(String token) {
+        try {
+            String url = apiBaseUrl + "/dashboard/cliente";
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + token);
+
+            HttpEntity<Void> request = new HttpEntity<>(headers);
+
+            ResponseEntity<DashboardClienteDTO> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                request,
+                DashboardClienteDTO.class
+            );
+
+            return response.getBody();
+
+        } catch (Exception e) {
+            System.err.println("Error al obtener el dashboard del cliente: " + e.getMessage());
+            throw new RuntimeException("Error al obtener el dashboard del cliente");
+        }
+    }
+ 
     /**
      * Obtiene los horarios disponibles para un empleado en una fecha específica.
      * 
@@ -272,13 +307,15 @@ public class CitaService {
      */
     public List<String> obtenerHorariosDisponibles(Long empleadoId, String fecha) {
         try {
-            String url = apiBaseUrl + "/citas/horarios-disponibles?empleadoId=" + empleadoId + "&fecha=" + fecha;
+            String url = apiBaseUrl + "/citas/horarios-disponibles?empleadoId={empleadoId}&fecha={fecha}";
             
             ResponseEntity<List<String>> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<List<String>>() {}
+                new ParameterizedTypeReference<List<String>>() {},
+                empleadoId,
+                fecha
             );
             
             return response.getBody();
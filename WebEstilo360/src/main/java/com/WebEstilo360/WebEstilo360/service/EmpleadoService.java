@@ -2,6 +2,7 @@ package com.WebEstilo360.WebEstilo360.service;
 
 import com.WebEstilo360.WebEstilo360.dto.EmpleadoDTO;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
@@ -16,7 +17,7 @@ import java.util.List;
  * Proporciona métodos para listar, crear, actualizar y eliminar empleados,
  * interactuando con la API externa mediante RestTemplate.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @RequiredArgsConstructor
@@ -25,33 +26,58 @@ public class EmpleadoService {
     /** Cliente HTTP para realizar solicitudes REST */
     private final RestTemplate restTemplate;
 
+    /** Gestor de las cachés de listas de referencia */
+    private final CacheReferencias cacheReferencias;
+
+    /** Lista de empleados guardada en caché */
+    private CacheReferencias.CacheReferencia<List<EmpleadoDTO>> cacheEmpleados;
+
     /** URL base de la API, inyectada desde configuración */
     @Value("${api.base.url}")
     private String apiBaseUrl;
 
+    /**
+     * Crea la caché de la lista de empleados.
+     */
+    @PostConstruct
+    void crearCache() {
+        cacheEmpleados = cacheReferencias.crear(CacheReferencias.EMPLEADOS, this::cargarEmpleados);
+    }
+
     /**
      * Lista todos los empleados existentes.
      * 
+     * La lista se guarda en caché (ver {@link CacheReferencias}).
+     * 
      * @return Lista de EmpleadoDTO o lista vacía en caso de error
      */
     public List<EmpleadoDTO> listarEmpleados() {
         try {
-            String url = apiBaseUrl + "/empleados";
-            
-            ResponseEntity<List<EmpleadoDTO>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<EmpleadoDTO>>() {}
-            );
-            
-            return response.getBody();
+            return cacheEmpleados.obtener();
             
         } catch (Exception e) {
             System.err.println("Error al listar empleados: " + e.getMessage());
             return Collections.emptyList();
         }
     }
+
+    /**
+     * Pide a la API la lista de empleados, sin pasar por la caché.
+     * 
+     * @return Lista de EmpleadoDTO
+     */
+    private List<EmpleadoDTO> cargarEmpleados() {
+        String url = apiBaseUrl + "/empleados";
+        
+        ResponseEntity<List<EmpleadoDTO>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<EmpleadoDTO>>() {}
+        );
+        
+        return response.getBody();
+    }
     
     /**
      * Obtiene un empleado por su identificador.
@@ -61,9 +87,9 @@ public class EmpleadoService {
      */
     public EmpleadoDTO obtenerEmpleadoPorId(Long id) {
         try {
-            String url = apiBaseUrl + "/empleados/" + id;
+            String url = apiBaseUrl + "/empleados/{id}";
             
-            ResponseEntity<EmpleadoDTO> response = restTemplate.getForEntity(url, EmpleadoDTO.class);
+            ResponseEntity<EmpleadoDTO> response = restTemplate.getForEntity(url, EmpleadoDTO.class, id);
             
             return response.getBody();
             
@@ -90,6 +116,7 @@ public class EmpleadoService {
             HttpEntity<EmpleadoDTO> request = new HttpEntity<>(empleadoDTO, headers);
             
             ResponseEntity<EmpleadoDTO> response = restTemplate.postForEntity(url, request, EmpleadoDTO.class);
+            cacheEmpleados.invalidar();
             
             return response.getBody();
             
@@ -108,14 +135,15 @@ public class EmpleadoService {
      */
     public void actualizarEmpleado(Long id, EmpleadoDTO empleadoDTO) {
         try {
-            String url = apiBaseUrl + "/empleados/" + id;
+            String url = apiBaseUrl + "/empleados/{id}";
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             
             HttpEntity<EmpleadoDTO> request = new HttpEntity<>(empleadoDTO, headers);
             
-            restTemplate.put(url, request);
+            restTemplate.put(url, request, id);
+            cacheEmpleados.invalidar();
             
         } catch (Exception e) {
             System.err.println("Error al actualizar empleado: " + e.getMessage());
@@ -131,9 +159,10 @@ public class EmpleadoService {
      */
     public void eliminarEmpleado(Long id) {
         try {
-            String url = apiBaseUrl + "/empleados/" + id;
+            String url = apiBaseUrl + "/empleados/{id}";
             
-            restTemplate.delete(url);
+            restTemplate.delete(url, id);
+            cacheEmpleados.invalidar();
             
         } catch (Exception e) {
             System.err.println("Error al eliminar empleado: " + e.getMessage());
@@ -0,0 +1,256 @@
+package com.WebEstilo360.WebEstilo360.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.WebEstilo360.WebEstilo360.interceptor.JwtInterceptor;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ejecuta en paralelo las llamadas independientes a la API que necesita una página.
+ *
+ * Cada llamada se lanza en un hilo virtual con el token de la sesión, leído
+ * en el hilo de la petición (ver {@link JwtInterceptor#conToken}), y el MDC
+ * (identificador de correlación). La petición en sí no se comparte: una
+ * llamada cancelada puede seguir viva cuando Tomcat ya la ha reciclado. La
+ * página tarda lo que la llamada más lenta y no la suma de todas.
+ *
+ * Cada llamada tiene un plazo propio y el grupo un plazo total. Una llamada
+ * que falla o no termina a tiempo se cancela y devuelve su valor por defecto,
+ * de modo que la página se muestra con los datos que sí han llegado.
+ *
+ * Uso:
+ * <pre>
+ * LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+ * var citas = grupo.llamar("citas", citaService::listarCitas, List.of());
+ * var usuarios = grupo.llamar("usuarios", usuarioService::listarTodosLosUsuarios, List.of());
+ * grupo.esperar();
+ * citas.resultado(); usuarios.resultado();
+ * </pre>
+ *
+ * @version 1.1
+ */
+@Component
+public class LlamadasConcurrentes {
+
+    /** Ejecutor con un hilo virtual por llamada */
+    private final ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Plazo por defecto de cada llamada */
+    private final Duration plazoLlamada;
+
+    /** Plazo total por defecto de un grupo de llamadas */
+    private final Duration plazoTotal;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(LlamadasConcurrentes.class);
+
+    /**
+     * Crea el ejecutor de llamadas.
+     *
+     * @param plazoLlamadaMs Plazo por defecto de cada llamada, en milisegundos
+     * @param plazoTotalMs Plazo total por defecto de un grupo, en milisegundos
+     */
+    public LlamadasConcurrentes(@Value("${app.llamadas.plazo-llamada-ms:2000}") long plazoLlamadaMs,
+                                @Value("${app.llamadas.plazo-total-ms:3000}") long plazoTotalMs) {
+        this.plazoLlamada = Duration.ofMillis(plazoLlamadaMs);
+        this.plazoTotal = Duration.ofMillis(plazoTotalMs);
+    }
+
+    /**
+     * Crea un grupo de llamadas con los plazos por defecto.
+     *
+     * @return Grupo vacío
+     */
+    public Grupo grupo() {
+        return new Grupo(plazoTotal);
+    }
+
+    /**
+     * Crea un grupo de llamadas con un plazo total concreto.
+     *
+     * @param plazoTotal Tiempo máximo de espera del grupo
+     * @return Grupo vacío
+     */
+    public Grupo grupo(Duration plazoTotal) {
+        return new Grupo(plazoTotal);
+    }
+
+    /**
+     * Detiene el ejecutor al cerrar la aplicación.
+     */
+    @PreDestroy
+    public void cerrar() {
+        ejecutor.shutdownNow();
+    }
+
+    /**
+     * Llamadas lanzadas para una misma petición, que se esperan juntas.
+     * No es seguro entre hilos: lo usa el hilo de la petición.
+     */
+    public class Grupo {
+
+        /** Momento en que vence el plazo total */
+        private final long limiteNanos;
+
+        /** Llamadas lanzadas */
+        private final List<Llamada<?>> llamadas = new ArrayList<>();
+
+        private Grupo(Duration plazoTotal) {
+            this.limiteNanos = System.nanoTime() + plazoTotal.toNanos();
+        }
+
+        /**
+         * Lanza una llamada con el plazo por defecto.
+         *
+         * @param <T> Tipo del resultado
+         * @param nombre Nombre de la llamada (para el log)
+         * @param llamada Llamada a la API
+         * @param porDefecto Valor si la llamada falla o no termina a tiempo
+         * @return Llamada lanzada
+         */
+        public <T> Llamada<T> llamar(String nombre, Supplier<T> llamada, T porDefecto) {
+            return llamar(nombre, llamada, porDefecto, plazoLlamada);
+        }
+
+        /**
+         * Lanza una llamada con un plazo concreto.
+         *
+         * @param <T> Tipo del resultado
+         * @param nombre Nombre de la llamada (para el log)
+         * @param llamada Llamada a la API
+         * @param porDefecto Valor si la llamada falla o no termina a tiempo
+         * @param plazo Tiempo máximo de la llamada
+         * @return Llamada lanzada
+         */
+        public <T> Llamada<T> llamar(String nombre, Supplier<T> llamada, T porDefecto, Duration plazo) {
+            String token = JwtInterceptor.tokenActual();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+            Future<T> futuro = ejecutor.submit(() -> {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    return JwtInterceptor.conToken(token, llamada);
+                } finally {
+                    MDC.clear();
+                }
+            });
+
+            Llamada<T> resultado = new Llamada<>(nombre, futuro, porDefecto,
+                    Math.min(System.nanoTime() + plazo.toNanos(), limiteNanos));
+            llamadas.add(resultado);
+            return resultado;
+        }
+
+        /**
+         * Espera a que terminen todas las llamadas o venzan sus plazos.
+         * Las que no han terminado a tiempo se cancelan.
+         */
+        public void esperar() {
+            for (Llamada<?> llamada : llamadas) {
+                llamada.esperar();
+            }
+        }
+
+        /**
+         * Indica si alguna llamada ha fallado o no ha terminado a tiempo.
+         *
+         * @return true si algún resultado es el valor por defecto por un fallo
+         */
+        public boolean incompleto() {
+            return llamadas.stream().anyMatch(Llamada::fallida);
+        }
+    }
+
+    /**
+     * Llamada lanzada dentro de un grupo.
+     *
+     * @param <T> Tipo del resultado
+     */
+    public static class Llamada<T> {
+
+        private final String nombre;
+        private final Future<T> futuro;
+        private final T porDefecto;
+        private final long limiteNanos;
+
+        private T resultado;
+        private boolean terminada;
+        private boolean fallida;
+
+        private Llamada(String nombre, Future<T> futuro, T porDefecto, long limiteNanos) {
+            this.nombre = nombre;
+            this.futuro = futuro;
+            this.porDefecto = porDefecto;
+            this.limiteNanos = limiteNanos;
+        }
+
+        /**
+         * Espera el resultado hasta el plazo de la llamada.
+         */
+        private void esperar() {
+            if (terminada) {
+                return;
+            }
+            terminada = true;
+            try {
+                resultado = futuro.get(Math.max(0, limiteNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Interrumpe el hilo virtual, lo que corta también la lectura del socket
+                futuro.cancel(true);
+                log.warn("La llamada '{}' no ha terminado a tiempo", nombre);
+                fallar();
+            } catch (ExecutionException e) {
+                log.warn("Error en la llamada '{}': {}", nombre, e.getCause().getMessage());
+                fallar();
+            } catch (InterruptedException e) {
+                futuro.cancel(true);
+                Thread.currentThread().interrupt();
+                fallar();
+            }
+        }
+
+        private void fallar() {
+            resultado = porDefecto;
+            fallida = true;
+        }
+
+        /**
+         * Devuelve el resultado, esperándolo si hace falta.
+         *
+         * @return Resultado de la llamada, o el valor por defecto si ha fallado
+         */
+        public T resultado() {
+            esperar();
+            return resultado;
+        }
+
+        /**
+         * Indica si la llamada ha fallado o no ha terminado a tiempo.
+         *
+         * @return true si el resultado es el valor por defecto por un fallo
+         */
+        public boolean fallida() {
+            esperar();
+            return fallida;
+        }
+    }
+}
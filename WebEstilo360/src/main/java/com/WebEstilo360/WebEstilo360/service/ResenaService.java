@@ -62,9 +62,9 @@ public class ResenaService {
      */
     public void eliminarResena(Long id) {
         try {
-            String url = apiBaseUrl + "/reseñas/" + id;
+            String url = apiBaseUrl + "/reseñas/{id}";
             
-            restTemplate.delete(url);
+            restTemplate.delete(url, id);
             
         } catch (Exception e) {
             System.err.println("Error al eliminar reseña: " + e.getMessage());
@@ -106,13 +106,14 @@ public class ResenaService {
      */
     public List<ResenaDTO> obtenerResenasPorUsuario(Long usuarioId) {
         try {
-            String url = apiBaseUrl + "/reseñas/usuario/" + usuarioId;
+            String url = apiBaseUrl + "/reseñas/usuario/{usuarioId}";
             
             ResponseEntity<List<ResenaDTO>> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 null,
-                new ParameterizedTypeReference<List<ResenaDTO>>() {}
+                new ParameterizedTypeReference<List<ResenaDTO>>() {},
+                usuarioId
             );
             
             return response.getBody();
@@ -2,10 +2,13 @@ package com.WebEstilo360.WebEstilo360.service;
 
 import com.WebEstilo360.WebEstilo360.dto.ServicioDTO;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
@@ -17,7 +20,7 @@ import java.util.List;
  * así como descargar el catálogo de servicios en formato PDF.
  * Interactúa con la API externa mediante RestTemplate.
  * 
- * @version 1.0
+ * @version 1.3
  */
 @Service
 @RequiredArgsConstructor
@@ -26,33 +29,76 @@ public class ServicioService {
     /** Cliente HTTP para realizar solicitudes REST */
     private final RestTemplate restTemplate;
 
+    /** Gestor de las cachés de listas de referencia */
+    private final CacheReferencias cacheReferencias;
+
+    /** Lista de servicios guardada en caché */
+    private CacheReferencias.CacheReferencia<List<ServicioDTO>> cacheServicios;
+
     /** URL base de la API, inyectada desde configuración */
     @Value("${api.base.url}")
     private String apiBaseUrl;
 
+    /**
+     * Crea la caché de la lista de servicios.
+     */
+    @PostConstruct
+    void crearCache() {
+        cacheServicios = cacheReferencias.crear(CacheReferencias.SERVICIOS, this::cargarServicios);
+    }
+
     /**
      * Lista todos los servicios disponibles.
      * 
+     * La lista se guarda en caché (ver {@link CacheReferencias}).
+     * 
      * @return Lista de ServicioDTO o lista vacía en caso de error
      */
     public List<ServicioDTO> listarServicios() {
         try {
-            String url = apiBaseUrl + "/servicios";
-            
-            ResponseEntity<List<ServicioDTO>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<ServicioDTO>>() {}
-            );
-            
-            return response.getBody();
+            return cacheServicios.obtener();
             
         } catch (Exception e) {
             System.err.println("Error al listar servicios: " + e.getMessage());
             return Collections.emptyList();
         }
     }
+
+    /**
+     * Obtiene el catálogo de servicios con su versión, que solo cambia cuando
+     * cambia la lista. Sirve de clave para guardar en caché el HTML del catálogo.
+     * 
+     * @return Servicios con su versión, o una lista vacía con versión 0 en caso de error
+     */
+    public CacheReferencias.Versionada<List<ServicioDTO>> obtenerCatalogo() {
+        try {
+            CacheReferencias.Versionada<List<ServicioDTO>> catalogo = cacheServicios.obtenerVersionada();
+            if (catalogo != null) {
+                return catalogo;
+            }
+        } catch (Exception e) {
+            System.err.println("Error al obtener el catálogo de servicios: " + e.getMessage());
+        }
+        return new CacheReferencias.Versionada<>(Collections.emptyList(), 0);
+    }
+
+    /**
+     * Pide a la API la lista de servicios, sin pasar por la caché.
+     * 
+     * @return Lista de ServicioDTO
+     */
+    private List<ServicioDTO> cargarServicios() {
+        String url = apiBaseUrl + "/servicios";
+        
+        ResponseEntity<List<ServicioDTO>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<List<ServicioDTO>>() {}
+        );
+        
+        return response.getBody();
+    }
     
     /**
      * Obtiene un servicio por su ID.
@@ -62,9 +108,9 @@ public class ServicioService {
      */
     public ServicioDTO obtenerServicioPorId(Long id) {
         try {
-            String url = apiBaseUrl + "/servicios/" + id;
+            String url = apiBaseUrl + "/servicios/{id}";
             
-            ResponseEntity<ServicioDTO> response = restTemplate.getForEntity(url, ServicioDTO.class);
+            ResponseEntity<ServicioDTO> response = restTemplate.getForEntity(url, ServicioDTO.class, id);
             
             return response.getBody();
             
@@ -91,6 +137,7 @@ public class ServicioService {
             HttpEntity<ServicioDTO> request = new HttpEntity<>(servicioDTO, headers);
             
             ResponseEntity<ServicioDTO> response = restTemplate.postForEntity(url, request, ServicioDTO.class);
+            cacheServicios.invalidar();
             
             return response.getBody();
             
@@ -109,14 +156,15 @@ public class ServicioService {
      */
     public void actualizarServicio(Long id, ServicioDTO servicioDTO) {
         try {
-            String url = apiBaseUrl + "/servicios/" + id;
+            String url = apiBaseUrl + "/servicios/{id}";
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             
             HttpEntity<ServicioDTO> request = new HttpEntity<>(servicioDTO, headers);
             
-            restTemplate.put(url, request);
+            restTemplate.put(url, request, id);
+            cacheServicios.invalidar();
             
         } catch (Exception e) {
             System.err.println("Error al actualizar servicio: " + e.getMessage());
@@ -132,9 +180,10 @@ public class ServicioService {
      */
     public void eliminarServicio(Long id) {
         try {
-            String url = apiBaseUrl + "/servicios/" + id;
+            String url = apiBaseUrl + "/servicios/{id}";
             
-            restTemplate.delete(url);
+            restTemplate.delete(url, id);
+            cacheServicios.invalidar();
             
         } catch (Exception e) {
             System.err.println("Error al eliminar servicio: " + e.getMessage());
@@ -143,22 +192,50 @@ public class ServicioService {
     }
     
     /**
-     * Descarga el catálogo de servicios en formato PDF.
+     * Cabeceras de la respuesta de la API que se reenvían al navegador junto
+     * con el PDF, o con el 304 si no ha cambiado.
+     */
+    private static final String[] CABECERAS_PDF = {
+            HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_DISPOSITION
+    };
+
+    /**
+     * Transmite el catálogo de servicios en PDF desde la API al navegador.
      * 
-     * @return Array de bytes con el contenido del PDF
+     * El cuerpo se copia de la conexión con la API a la respuesta por bloques
+     * de {@value StreamUtils#BUFFER_SIZE} bytes, sin guardar el documento en
+     * memoria. Las cabeceras condicionales del navegador (If-None-Match,
+     * If-Modified-Since) se reenvían a la API; si responde 304, el navegador
+     * recibe también un 304 sin cuerpo y usa su copia.
+     * 
+     * @param condicionales Cabeceras condicionales de la petición del navegador
+     * @param response Respuesta al navegador
      * @throws RuntimeException Si ocurre un error al descargar el PDF
      */
-    public byte[] descargarPdfServicios() {
+    public void transmitirPdfServicios(HttpHeaders condicionales, HttpServletResponse response) {
         try {
             String url = apiBaseUrl + "/servicios/descargar-pdf";
 
-            ResponseEntity<byte[]> response = restTemplate.getForEntity(url, byte[].class);
-
-            return response.getBody();
+            restTemplate.execute(url, HttpMethod.GET,
+                    peticion -> peticion.getHeaders().putAll(condicionales),
+                    respuesta -> {
+                        response.setStatus(respuesta.getStatusCode().value());
+                        for (String cabecera : CABECERAS_PDF) {
+                            String valor = respuesta.getHeaders().getFirst(cabecera);
+                            if (valor != null) {
+                                response.setHeader(cabecera, valor);
+                            }
+                        }
+                        if (respuesta.getStatusCode().is2xxSuccessful()) {
+                            StreamUtils.copy(respuesta.getBody(), response.getOutputStream());
+                        }
+                        return null;
+                    });
 
         } catch (Exception e) {
             System.err.println("Error al descargar PDF: " + e.getMessage());
             throw new RuntimeException("Error al descargar el catálogo");
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.WebEstilo360.WebEstilo360.util;
 
+import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
+
 import jakarta.servlet.http.HttpSession;
 
 /**
@@ -10,7 +12,11 @@ import jakarta.servlet.http.HttpSession;
  * Esta clase facilita el manejo de autenticación y autorización
  * en la capa de presentación.
  * 
- * @version 1.0
+ * También guarda el perfil del usuario, para no pedirlo a la API en cada
+ * página. El perfil se descarta cuando cambia el token o cuando el propio
+ * usuario lo modifica.
+ * 
+ * @version 1.2
  */
 public class SessionUtil {
 
@@ -21,6 +27,10 @@ public class SessionUtil {
      * @param token Token JWT a guardar
      */
     public static void guardarToken(HttpSession session, String token) {
+        // Un token nuevo puede ser de otro usuario o traer datos actualizados
+        if (!token.equals(session.getAttribute("token"))) {
+            eliminarPerfil(session);
+        }
         session.setAttribute("token", token);
     }
 
@@ -73,10 +83,35 @@ public class SessionUtil {
      * Verifica si el usuario está autenticado.
      * 
      * @param session Sesión HTTP
-     * @return true si existe un token en sesión, false en caso contrario
+     * @return true si existe un token en sesión y no ha caducado, false en caso contrario
      */
     public static boolean estaAutenticado(HttpSession session) {
-        return session.getAttribute("token") != null;
+        if (session.getAttribute("token") == null) {
+            return false;
+        }
+        // Con el token caducado la API rechazaría todas las llamadas
+        Long expira = obtenerExpiracion(session);
+        return expira == null || expira > System.currentTimeMillis();
+    }
+
+    /**
+     * Guarda en la sesión la caducidad del token.
+     * 
+     * @param session Sesión HTTP
+     * @param expira Caducidad del token, en milisegundos desde epoch
+     */
+    public static void guardarExpiracion(HttpSession session, Long expira) {
+        session.setAttribute("tokenExpira", expira);
+    }
+
+    /**
+     * Obtiene la caducidad del token almacenada en la sesión.
+     * 
+     * @param session Sesión HTTP
+     * @return Caducidad del token en milisegundos desde epoch, o null si no se conoce
+     */
+    public static Long obtenerExpiracion(HttpSession session) {
+        return (Long) session.getAttribute("tokenExpira");
     }
 
     /**
@@ -158,4 +193,34 @@ public class SessionUtil {
     public static Long obtenerUsuarioId(HttpSession session) {
         return (Long) session.getAttribute("usuarioId");
     }
+
+    /**
+     * Guarda el perfil del usuario en la sesión.
+     * 
+     * @param session Sesión HTTP
+     * @param perfil Perfil del usuario obtenido de la API
+     */
+    public static void guardarPerfil(HttpSession session, UsuarioDTO perfil) {
+        session.setAttribute("perfil", perfil);
+    }
+
+    /**
+     * Obtiene el perfil del usuario guardado en la sesión.
+     * 
+     * @param session Sesión HTTP
+     * @return Perfil del usuario, o null si no se ha guardado o se ha descartado
+     */
+    public static UsuarioDTO obtenerPerfil(HttpSession session) {
+        return (UsuarioDTO) session.getAttribute("perfil");
+    }
+
+    /**
+     * Descarta el perfil guardado en la sesión, que se volverá a pedir a la
+     * API la próxima vez que se necesite.
+     * 
+     * @param session Sesión HTTP
+     */
+    public static void eliminarPerfil(HttpSession session) {
+        session.removeAttribute("perfil");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.WebEstilo360.WebEstilo360.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.WebEstilo360.WebEstilo360.interceptor.JwtInterceptor;
+
+/**
+ * Tests de {@link LlamadasConcurrentes}: plazo de cada llamada, plazo total
+ * del grupo, resultados parciales y paso del token a los hilos de las llamadas.
+ *
+ * @version 1.0
+ */
+class LlamadasConcurrentesTest {
+
+    /** Plazo de cada llamada 200 ms, plazo total 500 ms */
+    private final LlamadasConcurrentes llamadasConcurrentes = new LlamadasConcurrentes(200, 500);
+
+    @AfterEach
+    void cerrar() {
+        llamadasConcurrentes.cerrar();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void llamadaLentaDevuelveElValorPorDefectoYSeInterrumpe() throws InterruptedException {
+        CountDownLatch interrumpida = new CountDownLatch(1);
+        LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+        var lenta = grupo.llamar("lenta", () -> {
+            try {
+                Thread.sleep(5000);
+                return "tarde";
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+                throw new IllegalStateException(e);
+            }
+        }, "por defecto");
+        var rapida = grupo.llamar("rapida", () -> "ok", "por defecto");
+
+        long inicio = System.nanoTime();
+        grupo.esperar();
+        long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertTrue(ms < 1000, "La espera debe acabar en el plazo de la llamada: " + ms + " ms");
+        assertEquals("por defecto", lenta.resultado());
+        assertTrue(lenta.fallida());
+        assertEquals("ok", rapida.resultado());
+        assertFalse(rapida.fallida());
+        assertTrue(grupo.incompleto());
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void plazoTotalLimitaLasLlamadasConPlazoMayor() {
+        LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo(Duration.ofMillis(300));
+        var lenta = grupo.llamar("lenta", () -> dormir(2000, "tarde"), "por defecto", Duration.ofSeconds(5));
+        var aTiempo = grupo.llamar("a tiempo", () -> dormir(50, "ok"), "por defecto", Duration.ofSeconds(5));
+
+        long inicio = System.nanoTime();
+        grupo.esperar();
+        long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertTrue(ms < 1000, "La espera debe acabar en el plazo total: " + ms + " ms");
+        assertEquals("por defecto", lenta.resultado());
+        assertEquals("ok", aTiempo.resultado());
+    }
+
+    @Test
+    void llamadaConErrorNoImpideLasDemas() {
+        LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+        var conError = grupo.<String>llamar("error", () -> {
+            throw new IllegalStateException("API caída");
+        }, "por defecto");
+        var correcta = grupo.llamar("correcta", () -> "ok", "por defecto");
+        grupo.esperar();
+
+        assertEquals("por defecto", conError.resultado());
+        assertTrue(conError.fallida());
+        assertEquals("ok", correcta.resultado());
+        assertTrue(grupo.incompleto());
+    }
+
+    @Test
+    void grupoSinFallosEstaCompleto() {
+        LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+        var una = grupo.llamar("una", () -> 1, 0);
+        var otra = grupo.llamar("otra", () -> 2, 0);
+        grupo.esperar();
+
+        assertEquals(1, una.resultado());
+        assertEquals(2, otra.resultado());
+        assertFalse(grupo.incompleto());
+    }
+
+    @Test
+    void lasLlamadasRecibenElTokenPeroNoLaPeticion() {
+        MockHttpServletRequest peticion = new MockHttpServletRequest();
+        peticion.getSession().setAttribute("token", "token-de-prueba");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(peticion));
+
+        LlamadasConcurrentes.Grupo grupo = llamadasConcurrentes.grupo();
+        var token = grupo.llamar("token", JwtInterceptor::tokenActual, null);
+        var atributos = grupo.llamar("atributos",
+                () -> String.valueOf(RequestContextHolder.getRequestAttributes()), null);
+        grupo.esperar();
+
+        assertEquals("token-de-prueba", token.resultado());
+        assertEquals("null", atributos.resultado());
+    }
+
+    private static String dormir(long ms, String resultado) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,57 @@
+package com.estilo360.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Benchmarks de BCrypt a distintos costes.
+ *
+ * El coste por defecto de {@link BCryptPasswordEncoder} es 10; cada punto más
+ * duplica el tiempo de {@code encode} y de {@code matches}.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+    /** Coste (log2 de las rondas) de BCrypt */
+    @Param({"4", "8", "10", "12"})
+    public int coste;
+
+    private BCryptPasswordEncoder encoder;
+
+    private String hash;
+
+    @Setup
+    public void preparar() {
+        encoder = new BCryptPasswordEncoder(coste);
+        hash = encoder.encode("Contrasena123!");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("Contrasena123!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Contrasena123!", hash);
+    }
+}
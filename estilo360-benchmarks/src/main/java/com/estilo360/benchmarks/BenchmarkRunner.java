@@ -0,0 +1,41 @@
+package com.estilo360.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks.
+ *
+ * Acepta los mismos argumentos que JMH (por ejemplo un filtro como
+ * {@code Jwt} o {@code -p servicios=100}) y añade siempre el perfilador de GC,
+ * que informa de los bytes asignados por operación ({@code gc.alloc.rate.norm}).
+ * Los resultados se guardan en {@code jmh-result.json} para poder compararlos
+ * entre versiones.
+ *
+ * Uso: {@code java -jar target/benchmarks.jar [argumentos de JMH]}
+ *
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions lineaComandos = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(lineaComandos);
+        builder.addProfiler(GCProfiler.class);
+        if (!lineaComandos.getResult().hasValue()) {
+            builder.result("jmh-result.json");
+        }
+        if (!lineaComandos.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        Options opciones = builder.build();
+
+        new Runner(opciones).run();
+    }
+}
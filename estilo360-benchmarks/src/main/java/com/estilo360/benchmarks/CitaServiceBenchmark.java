@@ -0,0 +1,101 @@
+package com.estilo360.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.estilo360.estilo360.dao.CitaDAO;
+import com.estilo360.estilo360.dao.EmpleadoDAO;
+import com.estilo360.estilo360.dao.ServicioDAO;
+import com.estilo360.estilo360.dao.UsuarioDAO;
+import com.estilo360.estilo360.dto.CitaDTO;
+import com.estilo360.estilo360.entidades.Cita;
+import com.estilo360.estilo360.security.JwtUtil;
+import com.estilo360.estilo360.services.CitaService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks de {@link CitaService}.
+ *
+ * - {@code listarCitas}: conversión de entidades a DTO ({@code mapToDTO}),
+ *   dominada por el formateo de fecha y hora.
+ * - {@code formatearFechaHora}: solo el formateo, como referencia.
+ * - {@code horariosDisponibles}: {@code generarHorarios} más el filtrado de
+ *   las horas ocupadas de un día.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CitaServiceBenchmark {
+
+    /** Número de citas devueltas por el DAO */
+    @Param({"10", "100", "1000"})
+    public int citas;
+
+    private CitaService citaService;
+
+    private List<Cita> datos;
+
+    private final DateTimeFormatter fechaFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final DateTimeFormatter horaFormatter = DateTimeFormatter.ofPattern("HH:mm");
+
+    @Setup
+    public void preparar() {
+        datos = Datos.citas(citas);
+        // Citas de un mismo día para la consulta de horarios (como máximo un día completo)
+        List<Cita> delDia = datos.subList(0, Math.min(citas, 20));
+
+        CitaDAO citaDAO = Datos.dao(CitaDAO.class, Map.of(
+                "findAllByOrderByFechaDescHoraDesc", args -> datos,
+                "findByEmpleado_IdEmpleadoAndFecha", args -> delDia));
+
+        citaService = new CitaService(citaDAO,
+                Datos.dao(UsuarioDAO.class, Map.of()),
+                Datos.dao(EmpleadoDAO.class, Map.of()),
+                Datos.dao(ServicioDAO.class, Map.of()),
+                new JwtUtil(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<CitaDTO> listarCitas() {
+        return citaService.listarCitas();
+    }
+
+    @Benchmark
+    public int formatearFechaHora() {
+        int longitud = 0;
+        for (Cita cita : datos) {
+            LocalDate fecha = cita.getFecha();
+            LocalTime hora = cita.getHora();
+            longitud += fecha.format(fechaFormatter).length() + hora.format(horaFormatter).length();
+        }
+        return longitud;
+    }
+
+    @Benchmark
+    public List<String> horariosDisponibles() {
+        return citaService.obtenerHorariosDisponibles(1L, "01/01/2025");
+    }
+}
@@ -0,0 +1,101 @@
+package com.estilo360.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.estilo360.estilo360.entidades.Cita;
+import com.estilo360.estilo360.entidades.Empleado;
+import com.estilo360.estilo360.entidades.EstadoCita;
+import com.estilo360.estilo360.entidades.Servicio;
+import com.estilo360.estilo360.entidades.Usuario;
+
+/**
+ * Datos de prueba y DAOs simulados para los benchmarks.
+ *
+ * Los DAOs son proxies dinámicos que devuelven listas preparadas en memoria,
+ * de modo que los benchmarks miden solo el código de los servicios y no la
+ * base de datos.
+ *
+ * @version 1.0
+ */
+public final class Datos {
+
+    private Datos() {}
+
+    /**
+     * Crea un DAO simulado que responde a los métodos indicados.
+     * Cualquier otro método lanza {@link UnsupportedOperationException}.
+     *
+     * @param tipo Interfaz del DAO
+     * @param metodos Implementación de cada método, por nombre
+     * @return DAO simulado
+     */
+    public static <T> T dao(Class<T> tipo, Map<String, Function<Object[], Object>> metodos) {
+        Object proxy = Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo },
+                (instancia, metodo, args) -> {
+                    Function<Object[], Object> implementacion = metodos.get(metodo.getName());
+                    if (implementacion != null) {
+                        return implementacion.apply(args);
+                    }
+                    switch (metodo.getName()) {
+                        case "toString": return tipo.getSimpleName() + "Simulado";
+                        case "hashCode": return System.identityHashCode(instancia);
+                        case "equals": return instancia == args[0];
+                        default: throw new UnsupportedOperationException(metodo.getName());
+                    }
+                });
+        return tipo.cast(proxy);
+    }
+
+    /**
+     * Crea una lista de servicios.
+     *
+     * @param n Número de servicios
+     * @return Servicios de prueba
+     */
+    public static List<Servicio> servicios(int n) {
+        List<Servicio> servicios = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            Servicio servicio = new Servicio("Servicio " + i,
+                    "Descripción del servicio " + i + " con corte, lavado y peinado",
+                    10.0 + (i % 50), 15 + (i % 6) * 15);
+            servicio.setId_servicio((long) i);
+            servicios.add(servicio);
+        }
+        return servicios;
+    }
+
+    /**
+     * Crea una lista de citas repartidas en varios días, empleados y servicios.
+     *
+     * @param n Número de citas
+     * @return Citas de prueba
+     */
+    public static List<Cita> citas(int n) {
+        Usuario usuario = new Usuario("Cliente Prueba", "cliente@estilo360.com", "600000000", "cliente", "x");
+        usuario.setId_usuario(1L);
+
+        List<Empleado> empleados = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Empleado empleado = new Empleado();
+            empleado.setId_empleado((long) i);
+            empleado.setNombre_completo("Empleado " + i);
+            empleados.add(empleado);
+        }
+        List<Servicio> servicios = servicios(10);
+
+        LocalDate inicio = LocalDate.of(2025, 1, 1);
+        List<Cita> citas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            citas.add(new Cita(usuario, empleados.get(i % empleados.size()), servicios.get(i % servicios.size()),
+                    inicio.plusDays(i / 20), LocalTime.of(9, 0).plusMinutes(30L * (i % 20)),
+                    EstadoCita.values()[i % EstadoCita.values().length], "Observación " + i));
+        }
+        return citas;
+    }
+}
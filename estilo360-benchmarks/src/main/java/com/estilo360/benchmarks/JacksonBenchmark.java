@@ -0,0 +1,78 @@
+package com.estilo360.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.estilo360.estilo360.dto.CitaDTO;
+import com.estilo360.estilo360.dto.ServicioDTO;
+import com.estilo360.estilo360.entidades.EstadoCita;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks de la serialización JSON (Jackson) de las listas de DTOs que
+ * devuelven los endpoints de listado.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    /** Número de elementos de cada lista */
+    @Param({"10", "100", "1000"})
+    public int elementos;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<CitaDTO> citas;
+
+    private List<ServicioDTO> servicios;
+
+    @Setup
+    public void preparar() {
+        citas = Datos.citas(elementos).stream()
+                .map(c -> {
+                    CitaDTO dto = new CitaDTO(null, c.getUsuario().getId_usuario(),
+                            c.getEmpleado().getId_empleado(), c.getServicio().getId_servicio(),
+                            c.getFecha().toString(), c.getHora().toString(),
+                            c.getEstado() != null ? c.getEstado().getValor() : EstadoCita.PENDIENTE.getValor(),
+                            c.getObservaciones());
+                    dto.setNombreEmpleado(c.getEmpleado().getNombre_completo());
+                    dto.setNombreServicio(c.getServicio().getNombre());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+        servicios = Datos.servicios(elementos).stream()
+                .map(s -> new ServicioDTO(s.getId_servicio(), s.getNombre(), s.getDescripcion(),
+                        s.getPrecio(), s.getDuracion_minutos()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializarCitas() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(citas);
+    }
+
+    @Benchmark
+    public byte[] serializarServicios() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(servicios);
+    }
+}
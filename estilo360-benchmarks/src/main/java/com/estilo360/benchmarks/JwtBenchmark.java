@@ -0,0 +1,53 @@
+package com.estilo360.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.estilo360.estilo360.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks de {@link JwtUtil}: generación de tokens y verificación de firma.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @Setup
+    public void preparar() {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        token = jwtUtil.generarToken("cliente@estilo360.com", "cliente");
+    }
+
+    @Benchmark
+    public String generarToken() {
+        return jwtUtil.generarToken("cliente@estilo360.com", "cliente");
+    }
+
+    @Benchmark
+    public Claims extraerClaims() {
+        return jwtUtil.extraerClaims(token);
+    }
+}
@@ -0,0 +1,52 @@
+package com.estilo360.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.estilo360.estilo360.dao.ServicioDAO;
+import com.estilo360.estilo360.entidades.Servicio;
+import com.estilo360.estilo360.services.PdfService;
+
+/**
+ * Benchmark de {@link PdfService#generarPdfServicios()} con catálogos de distinto tamaño.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfServiceBenchmark {
+
+    /** Número de servicios del catálogo */
+    @Param({"10", "100", "1000"})
+    public int servicios;
+
+    private PdfService pdfService;
+
+    @Setup
+    public void preparar() {
+        List<Servicio> catalogo = Datos.servicios(servicios);
+        pdfService = new PdfService(Datos.dao(ServicioDAO.class, Map.of("findAllOrderById", args -> catalogo)));
+    }
+
+    @Benchmark
+    public byte[] generarPdfServicios() {
+        return pdfService.generarPdfServicios();
+    }
+}
@@ -0,0 +1,160 @@
+package com.estilo360.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.WebEstilo360.WebEstilo360.dto.CitaDTO;
+import com.WebEstilo360.WebEstilo360.dto.ResenaDTO;
+import com.WebEstilo360.WebEstilo360.dto.ServicioDTO;
+import com.WebEstilo360.WebEstilo360.dto.UsuarioDTO;
+
+/**
+ * Benchmark del renderizado de las páginas del cliente de la web, con y sin
+ * caché de plantillas.
+ *
+ * Sin caché, cada renderizado vuelve a leer y analizar la plantilla, como con
+ * {@code spring.thymeleaf.cache=false}; con caché solo se procesa, como en el
+ * perfil {@code prod}. La página {@code servicios-cliente} recibe el catálogo
+ * ya generado (acierto de la caché de fragmentos); lo que cuesta generarlo se
+ * mide aparte con {@code fragmentos/catalogo-servicios}.
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlantillasBenchmark {
+
+    /** Plantilla que se renderiza */
+    @Param({"servicios-cliente", "fragmentos/catalogo-servicios", "citas-cliente", "dashboard-cliente"})
+    public String pagina;
+
+    /** Caché de plantillas analizadas */
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private SpringTemplateEngine motor;
+
+    private WebContext contexto;
+
+    @Setup
+    public void preparar() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cache);
+
+        motor = new SpringTemplateEngine();
+        motor.setTemplateResolver(resolver);
+
+        // Los enlaces @{...} necesitan una petición web
+        MockServletContext servletContext = new MockServletContext();
+        JakartaServletWebApplication aplicacion = JakartaServletWebApplication.buildApplication(servletContext);
+        contexto = new WebContext(aplicacion.buildExchange(
+                new MockHttpServletRequest(servletContext), new MockHttpServletResponse()),
+                Locale.getDefault(), modelo());
+    }
+
+    @Benchmark
+    public String renderizar() {
+        return motor.process(pagina, contexto);
+    }
+
+    /**
+     * Modelo que el controlador pasa a la página.
+     */
+    private Map<String, Object> modelo() {
+        UsuarioDTO usuario = new UsuarioDTO(1L, "Cliente Prueba", "cliente@estilo360.com",
+                "600000000", "cliente", null);
+        List<ServicioDTO> servicios = servicios(20);
+        List<CitaDTO> citas = citas(30);
+
+        Map<String, Object> modelo = new HashMap<>();
+        modelo.put("usuario", usuario);
+        switch (pagina) {
+            case "servicios-cliente":
+                modelo.put("catalogo", motor.process("fragmentos/catalogo-servicios",
+                        new Context(Locale.getDefault(), Map.of("servicios", servicios))));
+                break;
+            case "fragmentos/catalogo-servicios":
+                modelo.put("servicios", servicios);
+                break;
+            case "citas-cliente":
+                modelo.put("citas", citas);
+                modelo.put("resenas", resenas(10));
+                break;
+            case "dashboard-cliente":
+                modelo.put("proximaCita", citas.get(0));
+                modelo.put("historial", citas.subList(1, 4));
+                modelo.put("todasCitas", citas);
+                modelo.put("rol", "cliente");
+                break;
+            default:
+                throw new IllegalArgumentException("Página sin modelo: " + pagina);
+        }
+        return modelo;
+    }
+
+    private static List<ServicioDTO> servicios(int n) {
+        List<ServicioDTO> servicios = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            servicios.add(new ServicioDTO((long) i, "Servicio " + i,
+                    "Descripción del servicio " + i + " con corte, lavado y peinado",
+                    10.0 + (i % 50), 15 + (i % 6) * 15));
+        }
+        return servicios;
+    }
+
+    private static List<CitaDTO> citas(int n) {
+        String[] estados = {"pendiente", "confirmada", "completada", "cancelada"};
+        List<CitaDTO> citas = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            citas.add(new CitaDTO((long) i, 1L, (long) (i % 5 + 1), (long) (i % 10 + 1),
+                    String.format("%02d/%02d/2025", i % 28 + 1, i % 12 + 1),
+                    String.format("%02d:%02d", 9 + i % 10, (i % 2) * 30),
+                    estados[i % estados.length], "Observación " + i,
+                    "Cliente Prueba", "Empleado " + (i % 5 + 1), "Servicio " + (i % 10 + 1)));
+        }
+        return citas;
+    }
+
+    private static List<ResenaDTO> resenas(int n) {
+        List<ResenaDTO> resenas = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            resenas.add(new ResenaDTO((long) i, 1L, (long) (i % 5 + 1), i % 5 + 1,
+                    "Comentario " + i, "2025-01-" + String.format("%02d", i % 28 + 1),
+                    "Cliente Prueba", "Empleado " + (i % 5 + 1)));
+        }
+        return resenas;
+    }
+}
@@ -0,0 +1,61 @@
+package com.estilo360.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Identificadores de empleados y servicios existentes, leídos de la API al
+ * empezar la prueba para que las reservas usen datos reales.
+ *
+ * @version 1.0
+ */
+final class Catalogo {
+
+    private static final Pattern ID_EMPLEADO = Pattern.compile("\"id_empleado\"\\s*:\\s*(\\d+)");
+    private static final Pattern ID_SERVICIO = Pattern.compile("\"id_servicio\"\\s*:\\s*(\\d+)");
+
+    /** Identificadores de empleados */
+    final List<String> empleados;
+
+    /** Identificadores de servicios */
+    final List<String> servicios;
+
+    private Catalogo(List<String> empleados, List<String> servicios) {
+        this.empleados = empleados;
+        this.servicios = servicios;
+    }
+
+    /**
+     * Lee los empleados y servicios de la API.
+     *
+     * @param http Cliente HTTP
+     * @param apiUrl URL base de la API
+     * @return Catálogo
+     * @throws IOException si la API no responde o no hay empleados o servicios
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    static Catalogo cargar(HttpClient http, String apiUrl) throws IOException, InterruptedException {
+        List<String> empleados = Escenario.extraerTodos(leer(http, apiUrl + "/empleados"), ID_EMPLEADO);
+        List<String> servicios = Escenario.extraerTodos(leer(http, apiUrl + "/servicios"), ID_SERVICIO);
+        if (empleados.isEmpty() || servicios.isEmpty()) {
+            throw new IOException("La API no tiene empleados o servicios; genera datos antes de la prueba");
+        }
+        return new Catalogo(List.copyOf(empleados), List.copyOf(servicios));
+    }
+
+    private static String leer(HttpClient http, String url) throws IOException, InterruptedException {
+        HttpResponse<String> respuesta = http.send(
+                HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != 200) {
+            throw new IOException("GET " + url + " respondió " + respuesta.statusCode());
+        }
+        return respuesta.body();
+    }
+}
@@ -0,0 +1,73 @@
+package com.estilo360.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Configuración de la prueba de carga.
+ *
+ * Se lee de {@code carga.properties} y se puede sobrescribir con argumentos
+ * {@code clave=valor} en la línea de comandos.
+ *
+ * @version 1.0
+ */
+final class Configuracion {
+
+    /** Propiedades efectivas */
+    private final Properties propiedades = new Properties();
+
+    /**
+     * Carga la configuración por defecto y aplica los argumentos.
+     *
+     * @param args Argumentos {@code clave=valor}
+     * @throws IOException si no se puede leer la configuración por defecto
+     * @throws IllegalArgumentException si algún argumento no tiene el formato esperado
+     */
+    Configuracion(String[] args) throws IOException {
+        try (InputStream in = Configuracion.class.getResourceAsStream("/carga.properties")) {
+            if (in != null) {
+                propiedades.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        }
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento no válido (se espera clave=valor): " + arg);
+            }
+            propiedades.setProperty(arg.substring(0, igual), arg.substring(igual + 1));
+        }
+    }
+
+    String texto(String clave) {
+        String valor = propiedades.getProperty(clave);
+        if (valor == null) {
+            throw new IllegalArgumentException("Falta la propiedad " + clave);
+        }
+        return valor.trim();
+    }
+
+    int entero(String clave) {
+        return Integer.parseInt(texto(clave));
+    }
+
+    double decimal(String clave) {
+        return Double.parseDouble(texto(clave));
+    }
+
+    /**
+     * Devuelve la configuración efectiva, para incluirla en el informe.
+     *
+     * @return Propiedades ordenadas por clave
+     */
+    String resumen() {
+        StringBuilder sb = new StringBuilder();
+        propiedades.stringPropertyNames().stream().sorted()
+                .filter(clave -> !clave.contains("contrasena"))
+                .forEach(clave -> sb.append("  ").append(clave).append('=')
+                        .append(propiedades.getProperty(clave)).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.estilo360.carga;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recorrido de un usuario virtual por una de las aplicaciones.
+ *
+ * Contiene la configuración del comportamiento (probabilidades, pausas) y
+ * utilidades comunes a los escenarios de la API y de la web.
+ *
+ * @version 1.0
+ */
+abstract class Escenario {
+
+    /** Error que interrumpe una sesión (por ejemplo, un login fallido) */
+    static final class FalloSesion extends Exception {
+        FalloSesion(String mensaje) {
+            super(mensaje);
+        }
+    }
+
+    /** Formato de fecha de la API (dd/MM/yyyy) */
+    static final DateTimeFormatter FECHA_API = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /** Horas de la respuesta de horarios disponibles */
+    private static final Pattern HORA = Pattern.compile("\"(\\d{2}:\\d{2})\"");
+
+    protected final Configuracion config;
+    protected final Catalogo catalogo;
+    private final long pausaMediaMs;
+    protected final int sondeosMax;
+    protected final double probReserva;
+    protected final double probCancelacion;
+    protected final double probResena;
+    protected final double probPdf;
+    private final int diasReserva;
+
+    Escenario(Configuracion config, Catalogo catalogo) {
+        this.config = config;
+        this.catalogo = catalogo;
+        this.pausaMediaMs = config.entero("pausa.media.ms");
+        this.sondeosMax = config.entero("sondeos.max");
+        this.probReserva = config.decimal("prob.reserva");
+        this.probCancelacion = config.decimal("prob.cancelacion");
+        this.probResena = config.decimal("prob.resena");
+        this.probPdf = config.decimal("prob.pdf");
+        this.diasReserva = config.entero("dias.reserva");
+    }
+
+    /** @return URL base de la aplicación que recorre el escenario */
+    abstract String baseUrl();
+
+    /**
+     * Ejecuta el recorrido completo de un usuario.
+     *
+     * @param sesion Sesión HTTP del usuario virtual
+     * @param correo Correo con el que inicia sesión
+     * @param contrasena Contraseña
+     * @throws FalloSesion si el recorrido no puede continuar
+     */
+    abstract void ejecutar(Sesion sesion, String correo, String contrasena) throws FalloSesion;
+
+    /**
+     * Pausa de "tiempo de reflexión" del usuario, con distribución exponencial.
+     */
+    protected void pausa() {
+        if (pausaMediaMs <= 0) {
+            return;
+        }
+        double u = ThreadLocalRandom.current().nextDouble();
+        long ms = (long) (-Math.log(1 - u) * pausaMediaMs);
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.min(ms, pausaMediaMs * 10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected boolean probabilidad(double p) {
+        return ThreadLocalRandom.current().nextDouble() < p;
+    }
+
+    protected int entre(int minimo, int maximo) {
+        return ThreadLocalRandom.current().nextInt(minimo, maximo + 1);
+    }
+
+    /** @return Fecha aleatoria entre mañana y el horizonte de reservas */
+    protected LocalDate fechaFutura() {
+        return LocalDate.now().plusDays(entre(1, diasReserva));
+    }
+
+    /**
+     * Extrae el primer grupo de una expresión regular.
+     *
+     * @param texto Texto
+     * @param patron Expresión con un grupo
+     * @return Valor encontrado, o null
+     */
+    protected static String extraer(String texto, Pattern patron) {
+        Matcher m = patron.matcher(texto);
+        return m.find() ? m.group(1) : null;
+    }
+
+    /**
+     * Extrae todos los valores del primer grupo de una expresión regular.
+     *
+     * @param texto Texto
+     * @param patron Expresión con un grupo
+     * @return Valores encontrados
+     */
+    protected static List<String> extraerTodos(String texto, Pattern patron) {
+        List<String> valores = new ArrayList<>();
+        Matcher m = patron.matcher(texto);
+        while (m.find()) {
+            valores.add(m.group(1));
+        }
+        return valores;
+    }
+
+    /** @return Horas libres de una respuesta de horarios disponibles */
+    protected static List<String> horas(String json) {
+        return extraerTodos(json, HORA);
+    }
+
+    protected static <T> T elegir(List<T> valores) {
+        return valores.get(ThreadLocalRandom.current().nextInt(valores.size()));
+    }
+}
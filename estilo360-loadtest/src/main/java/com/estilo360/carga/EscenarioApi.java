@@ -0,0 +1,102 @@
+package com.estilo360.carga;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Recorrido de un cliente contra la API REST, tal como lo hace la web:
+ * login, carga del panel, consultas de disponibilidad, reserva, cancelación,
+ * reseña y descarga del catálogo en PDF.
+ *
+ * @version 1.0
+ */
+final class EscenarioApi extends Escenario {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID_USUARIO = Pattern.compile("\"id_usuario\"\\s*:\\s*(\\d+)");
+    private static final Pattern ID_CITA = Pattern.compile("\"id_cita\"\\s*:\\s*(\\d+)");
+
+    EscenarioApi(Configuracion config, Catalogo catalogo) {
+        super(config, catalogo);
+    }
+
+    @Override
+    String baseUrl() {
+        return config.texto("api.url");
+    }
+
+    @Override
+    void ejecutar(Sesion sesion, String correo, String contrasena) throws FalloSesion {
+        // Login y datos del usuario
+        Sesion.Respuesta login = sesion.postJson("api POST /auth/login", "/auth/login",
+                "{\"correo\":\"" + correo + "\",\"contrasena\":\"" + contrasena + "\"}");
+        String token = login.correcta() ? extraer(login.cuerpo(), TOKEN) : null;
+        if (token == null) {
+            throw new FalloSesion("Login fallido para " + correo);
+        }
+        sesion.setToken(token);
+
+        Sesion.Respuesta usuario = sesion.get("api GET /usuarios/buscar-por-correo",
+                "/usuarios/buscar-por-correo?correo=" + URLEncoder.encode(correo, StandardCharsets.UTF_8));
+        String usuarioId = extraer(usuario.cuerpo(), ID_USUARIO);
+        if (usuarioId == null) {
+            throw new FalloSesion("Usuario no encontrado: " + correo);
+        }
+        pausa();
+
+        // Panel del cliente
+        sesion.get("api GET /citas/proxima", "/citas/proxima");
+        sesion.get("api GET /citas/historial", "/citas/historial");
+        sesion.get("api GET /servicios", "/servicios");
+        pausa();
+
+        // Consultas de disponibilidad
+        String empleadoId = null;
+        String fecha = null;
+        List<String> libres = List.of();
+        for (int i = entre(1, sondeosMax); i > 0; i--) {
+            empleadoId = elegir(catalogo.empleados);
+            fecha = fechaFutura().format(FECHA_API);
+            libres = horas(sesion.get("api GET /citas/horarios-disponibles",
+                    "/citas/horarios-disponibles?empleadoId=" + empleadoId + "&fecha=" + fecha).cuerpo());
+            pausa();
+        }
+
+        // Reserva y, a veces, cancelación
+        if (!libres.isEmpty() && probabilidad(probReserva)) {
+            Sesion.Respuesta cita = sesion.postJson("api POST /citas", "/citas",
+                    "{\"usuario_id\":" + usuarioId
+                    + ",\"empleado_id\":" + empleadoId
+                    + ",\"servicio_id\":" + elegir(catalogo.servicios)
+                    + ",\"fecha\":\"" + fecha + "\""
+                    + ",\"hora\":\"" + elegir(libres) + "\""
+                    + ",\"observaciones\":\"Prueba de carga\"}");
+            String citaId = extraer(cita.cuerpo(), ID_CITA);
+            pausa();
+
+            if (citaId != null && probabilidad(probCancelacion)) {
+                sesion.delete("api DELETE /citas/{id}", "/citas/" + citaId);
+                pausa();
+            }
+        }
+
+        sesion.get("api GET /citas/mis-citas", "/citas/mis-citas");
+
+        // Reseña
+        if (probabilidad(probResena)) {
+            sesion.postJson("api POST /reseñas", "/rese%C3%B1as",
+                    "{\"usuarioId\":" + usuarioId
+                    + ",\"empleadoId\":" + elegir(catalogo.empleados)
+                    + ",\"puntuacion\":" + entre(1, 5)
+                    + ",\"comentario\":\"Reseña de prueba de carga\"}");
+            pausa();
+        }
+
+        // Catálogo en PDF
+        if (probabilidad(probPdf)) {
+            sesion.get("api GET /servicios/descargar-pdf", "/servicios/descargar-pdf");
+        }
+    }
+}
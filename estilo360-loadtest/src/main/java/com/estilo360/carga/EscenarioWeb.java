@@ -0,0 +1,94 @@
+package com.estilo360.carga;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Recorrido de un cliente por la aplicación web (Thymeleaf), que a su vez
+ * llama a la API: login por formulario, panel, servicios, disponibilidad,
+ * reserva, listado de citas, cancelación, reseña y descarga del PDF.
+ *
+ * @version 1.0
+ */
+final class EscenarioWeb extends Escenario {
+
+    private static final Pattern ID_CITA = Pattern.compile("data-cita-id=\"(\\d+)\"");
+
+    EscenarioWeb(Configuracion config, Catalogo catalogo) {
+        super(config, catalogo);
+    }
+
+    @Override
+    String baseUrl() {
+        return config.texto("web.url");
+    }
+
+    @Override
+    void ejecutar(Sesion sesion, String correo, String contrasena) throws FalloSesion {
+        // Login: si es correcto la web redirige al panel
+        Sesion.Respuesta login = sesion.postFormulario("web POST /login", "/login",
+                Map.of("correo", correo, "contrasena", contrasena), estado -> estado == 302);
+        if (!login.correcta()) {
+            throw new FalloSesion("Login web fallido para " + correo);
+        }
+
+        sesion.get("web GET /dashboard-cliente", "/dashboard-cliente");
+        pausa();
+
+        sesion.get("web GET /cliente-servicios", "/cliente-servicios");
+        pausa();
+
+        // Formulario de nueva cita y consultas de disponibilidad
+        sesion.get("web GET /citas/nueva", "/citas/nueva");
+        String empleadoId = null;
+        String fecha = null;
+        List<String> libres = List.of();
+        for (int i = entre(1, sondeosMax); i > 0; i--) {
+            LocalDate dia = fechaFutura();
+            empleadoId = elegir(catalogo.empleados);
+            fecha = dia.toString();
+            libres = horas(sesion.get("web GET /citas/horarios-disponibles",
+                    "/citas/horarios-disponibles?empleadoId=" + empleadoId + "&fecha="
+                            + dia.format(FECHA_API)).cuerpo());
+            pausa();
+        }
+
+        if (!libres.isEmpty() && probabilidad(probReserva)) {
+            sesion.postFormulario("web POST /citas/nueva", "/citas/nueva",
+                    Map.of("servicio_id", elegir(catalogo.servicios),
+                           "empleado_id", empleadoId,
+                           "fecha", fecha,
+                           "hora", elegir(libres)),
+                    estado -> estado == 302);
+            pausa();
+        }
+
+        // Listado de citas y, a veces, cancelación de la más reciente
+        Sesion.Respuesta citas = sesion.get("web GET /cliente-citas", "/cliente-citas");
+        List<String> ids = extraerTodos(citas.cuerpo(), ID_CITA);
+        if (!ids.isEmpty() && probabilidad(probCancelacion)) {
+            String citaId = ids.stream().max(Comparator.comparingLong(Long::parseLong)).get();
+            sesion.postFormulario("web POST /cliente-citas/cancelar/{id}", "/cliente-citas/cancelar/" + citaId,
+                    Map.of(), estado -> estado == 302);
+            pausa();
+        }
+
+        if (probabilidad(probResena)) {
+            sesion.postFormulario("web POST /cliente-citas/crear-resena", "/cliente-citas/crear-resena",
+                    Map.of("empleadoId", elegir(catalogo.empleados),
+                           "puntuacion", String.valueOf(entre(1, 5)),
+                           "comentario", "Reseña de prueba de carga"),
+                    estado -> estado == 302);
+            pausa();
+        }
+
+        if (probabilidad(probPdf)) {
+            sesion.get("web GET /cliente-servicios/descargar-pdf", "/cliente-servicios/descargar-pdf");
+        }
+
+        sesion.get("web GET /logout", "/logout");
+    }
+}
@@ -0,0 +1,177 @@
+package com.estilo360.carga;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estadísticas de la prueba de carga por endpoint.
+ *
+ * Guarda todas las latencias medidas (en microsegundos) para calcular
+ * percentiles exactos al final; con las tasas de una prueba de capacidad de
+ * un salón son pocos millones de muestras como mucho.
+ *
+ * @version 1.0
+ */
+final class Estadisticas {
+
+    /** Registros por endpoint, ordenados por nombre */
+    private final Map<String, Registro> registros = new ConcurrentSkipListMap<>();
+
+    /** Sesiones iniciadas */
+    final AtomicLong sesionesIniciadas = new AtomicLong();
+
+    /** Sesiones descartadas por superar el máximo de sesiones simultáneas */
+    final AtomicLong sesionesDescartadas = new AtomicLong();
+
+    /** Sesiones interrumpidas por un error */
+    final AtomicLong sesionesFallidas = new AtomicLong();
+
+    /** Indica si las peticiones se están contabilizando (false durante el calentamiento) */
+    private volatile boolean midiendo;
+
+    /** Momento (ns) en que empezó la medición */
+    private volatile long inicioMedicion;
+
+    /**
+     * Empieza a contabilizar las peticiones, descartando lo registrado antes.
+     */
+    void empezarMedicion() {
+        registros.clear();
+        sesionesIniciadas.set(0);
+        sesionesDescartadas.set(0);
+        sesionesFallidas.set(0);
+        inicioMedicion = System.nanoTime();
+        midiendo = true;
+    }
+
+    /**
+     * Segundos transcurridos desde el inicio de la medición.
+     *
+     * @return Segundos medidos
+     */
+    double segundosMedidos() {
+        return midiendo ? (System.nanoTime() - inicioMedicion) / 1e9 : 0;
+    }
+
+    /**
+     * Registra una petición.
+     *
+     * @param endpoint Nombre del endpoint
+     * @param nanos Latencia en nanosegundos
+     * @param error true si la petición ha fallado
+     */
+    void registrar(String endpoint, long nanos, boolean error) {
+        if (!midiendo) {
+            return;
+        }
+        registros.computeIfAbsent(endpoint, e -> new Registro()).anadir(nanos / 1000, error);
+    }
+
+    /**
+     * Imprime una línea de progreso con el total de peticiones y errores.
+     *
+     * @param salida Flujo de salida
+     */
+    void imprimirProgreso(PrintStream salida) {
+        long peticiones = 0;
+        long errores = 0;
+        for (Registro registro : registros.values()) {
+            synchronized (registro) {
+                peticiones += registro.total;
+                errores += registro.errores;
+            }
+        }
+        double segundos = segundosMedidos();
+        salida.printf("[%6.0f s] peticiones=%d (%.1f/s) errores=%d sesiones=%d descartadas=%d%n",
+                segundos, peticiones, segundos > 0 ? peticiones / segundos : 0, errores,
+                sesionesIniciadas.get(), sesionesDescartadas.get());
+    }
+
+    /**
+     * Imprime el informe final por endpoint y lo guarda en CSV si se indica.
+     *
+     * @param salida Flujo de salida
+     * @param csv Fichero CSV, o null para no guardarlo
+     * @throws IOException si no se puede escribir el CSV
+     */
+    void imprimirInforme(PrintStream salida, Path csv) throws IOException {
+        double segundos = segundosMedidos();
+        StringBuilder filasCsv = new StringBuilder(
+                "endpoint,peticiones,rps,errores,porcentaje_errores,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+
+        salida.println();
+        salida.printf("Resultados (%.0f s medidos)%n", segundos);
+        salida.printf("%-48s %9s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "peticiones", "rps", "error%", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+
+        for (Map.Entry<String, Registro> entrada : registros.entrySet()) {
+            Resumen r = entrada.getValue().resumir();
+            double rps = segundos > 0 ? r.total / segundos : 0;
+            double porcentajeErrores = r.total > 0 ? 100.0 * r.errores / r.total : 0;
+            salida.printf("%-48s %9d %8.1f %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entrada.getKey(), r.total, rps, porcentajeErrores,
+                    r.p50 / 1000.0, r.p90 / 1000.0, r.p95 / 1000.0, r.p99 / 1000.0, r.max / 1000.0);
+            filasCsv.append(String.format(Locale.ROOT, "\"%s\",%d,%.2f,%d,%.3f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    entrada.getKey(), r.total, rps, r.errores, porcentajeErrores,
+                    r.p50 / 1000.0, r.p90 / 1000.0, r.p95 / 1000.0, r.p99 / 1000.0, r.max / 1000.0));
+        }
+
+        salida.printf("%nSesiones: iniciadas=%d, fallidas=%d, descartadas=%d%n",
+                sesionesIniciadas.get(), sesionesFallidas.get(), sesionesDescartadas.get());
+
+        if (csv != null) {
+            Files.writeString(csv, filasCsv, StandardCharsets.UTF_8);
+            salida.println("Resultados guardados en " + csv.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Latencias y errores de un endpoint.
+     */
+    private static final class Registro {
+
+        private long[] muestras = new long[1024];
+        private int total;
+        private long errores;
+
+        synchronized void anadir(long micros, boolean error) {
+            if (total == muestras.length) {
+                muestras = Arrays.copyOf(muestras, total * 2);
+            }
+            muestras[total++] = micros;
+            if (error) {
+                errores++;
+            }
+        }
+
+        synchronized Resumen resumir() {
+            long[] ordenadas = Arrays.copyOf(muestras, total);
+            Arrays.sort(ordenadas);
+            return new Resumen(total, errores,
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.90),
+                    percentil(ordenadas, 0.95), percentil(ordenadas, 0.99),
+                    total > 0 ? ordenadas[total - 1] : 0);
+        }
+
+        private static long percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))];
+        }
+    }
+
+    /**
+     * Resumen de un endpoint (latencias en microsegundos).
+     */
+    private record Resumen(long total, long errores, long p50, long p90, long p95, long p99, long max) {}
+}
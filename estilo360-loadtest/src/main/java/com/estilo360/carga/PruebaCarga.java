@@ -0,0 +1,130 @@
+package com.estilo360.carga;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga para la API y la web de Estilo360.
+ *
+ * Simula clientes del salón con un modelo abierto: las sesiones nuevas llegan
+ * según un proceso de Poisson con la tasa configurada, independientemente de
+ * lo que tarden las anteriores, como ocurre con el tráfico real de un sábado
+ * por la mañana. Cada sesión es un hilo virtual que recorre la API o la web
+ * con pausas de reflexión entre pasos.
+ *
+ * Al terminar muestra, por endpoint, el número de peticiones, el throughput,
+ * los percentiles de latencia y el porcentaje de errores.
+ *
+ * Uso: {@code java -jar target/loadtest.jar [clave=valor ...]} (ver carga.properties).
+ * Las aplicaciones deben estar arrancadas contra la base de datos local
+ * (docker-compose) con usuarios de prueba, por ejemplo los del generador de datos.
+ *
+ * @version 1.1
+ */
+public class PruebaCarga {
+
+    public static void main(String[] args) throws Exception {
+        Configuracion config = new Configuracion(args);
+        System.out.println("Configuración:");
+        System.out.print(config.resumen());
+
+        Duration timeout = Duration.ofSeconds(config.entero("timeout"));
+        ExecutorService sesiones = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(sesiones)
+                .build();
+
+        Catalogo catalogo = Catalogo.cargar(http, config.texto("api.url"));
+        System.out.printf("Catálogo: %d empleados, %d servicios%n",
+                catalogo.empleados.size(), catalogo.servicios.size());
+
+        Estadisticas estadisticas = new Estadisticas();
+        Semaphore huecos = new Semaphore(config.entero("max.sesiones"));
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.entero("duracion"));
+
+        Thread generadorApi = generador(new EscenarioApi(config, catalogo), config.decimal("api.tasa"),
+                fin, config, http, timeout, sesiones, huecos, estadisticas);
+        Thread generadorWeb = generador(new EscenarioWeb(config, catalogo), config.decimal("web.tasa"),
+                fin, config, http, timeout, sesiones, huecos, estadisticas);
+
+        // Calentamiento: se generan sesiones pero no se contabilizan
+        TimeUnit.SECONDS.sleep(config.entero("calentamiento"));
+        estadisticas.empezarMedicion();
+
+        long intervalo = TimeUnit.SECONDS.toNanos(config.entero("intervalo.informe"));
+        while (System.nanoTime() < fin) {
+            LockSupport.parkNanos(Math.min(intervalo, fin - System.nanoTime()));
+            estadisticas.imprimirProgreso(System.out);
+        }
+
+        generadorApi.join();
+        generadorWeb.join();
+        sesiones.shutdownNow();
+        sesiones.awaitTermination(timeout.toSeconds() + 5, TimeUnit.SECONDS);
+
+        String salida = config.texto("salida");
+        estadisticas.imprimirInforme(System.out, salida.isEmpty() ? null : Path.of(salida));
+    }
+
+    /**
+     * Arranca el hilo que lanza sesiones de un escenario con llegadas de Poisson.
+     *
+     * Las llegadas se planifican sobre un reloj absoluto para que la tasa no se
+     * desvíe aunque el propio generador se retrase. Si ya hay el máximo de
+     * sesiones en curso, la llegada se descarta y se cuenta.
+     */
+    private static Thread generador(Escenario escenario, double tasa, long fin, Configuracion config,
+                                    HttpClient http, Duration timeout, ExecutorService sesiones,
+                                    Semaphore huecos, Estadisticas estadisticas) {
+        String patron = config.texto("usuarios.patron");
+        int primero = config.entero("usuarios.primero");
+        int usuarios = config.entero("usuarios.total");
+        String contrasena = config.texto("usuarios.contrasena");
+
+        return Thread.ofPlatform().name("generador-" + escenario.getClass().getSimpleName()).start(() -> {
+            if (tasa <= 0) {
+                return;
+            }
+            double mediaNanos = 1e9 / tasa;
+            long siguiente = System.nanoTime();
+
+            while (true) {
+                siguiente += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * mediaNanos);
+                if (siguiente >= fin) {
+                    return;
+                }
+                LockSupport.parkNanos(siguiente - System.nanoTime());
+
+                if (!huecos.tryAcquire()) {
+                    estadisticas.sesionesDescartadas.incrementAndGet();
+                    continue;
+                }
+                estadisticas.sesionesIniciadas.incrementAndGet();
+                String correo = String.format(patron, ThreadLocalRandom.current().nextInt(primero, primero + usuarios));
+
+                sesiones.submit(() -> {
+                    try {
+                        escenario.ejecutar(new Sesion(http, estadisticas, escenario.baseUrl(), timeout),
+                                correo, contrasena);
+                    } catch (Escenario.FalloSesion e) {
+                        estadisticas.sesionesFallidas.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        estadisticas.sesionesFallidas.incrementAndGet();
+                        System.err.println("Error en sesión: " + e);
+                    } finally {
+                        huecos.release();
+                    }
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.estilo360.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Sesión HTTP de un usuario virtual.
+ *
+ * Todas las sesiones comparten un único {@link HttpClient}; cada una guarda su
+ * propia cookie de sesión (web) y su token JWT (API). Cada petición se mide y
+ * se registra en las estadísticas con un nombre de endpoint sin identificadores,
+ * para agrupar todas las llamadas a la misma ruta.
+ *
+ * @version 1.0
+ */
+final class Sesion {
+
+    /** Respuesta de una petición */
+    record Respuesta(int estado, String cuerpo) {
+
+        /** @return true si la petición ha terminado sin error */
+        boolean correcta() {
+            return estado >= 200 && estado < 400;
+        }
+    }
+
+    /** Cliente HTTP compartido */
+    private final HttpClient http;
+
+    /** Estadísticas de la prueba */
+    private final Estadisticas estadisticas;
+
+    /** URL base de la aplicación */
+    private final String baseUrl;
+
+    /** Tiempo máximo de cada petición */
+    private final Duration timeout;
+
+    /** Cookie de sesión de la web (JSESSIONID) */
+    private String cookie;
+
+    /** Token JWT de la API */
+    private String token;
+
+    Sesion(HttpClient http, Estadisticas estadisticas, String baseUrl, Duration timeout) {
+        this.http = http;
+        this.estadisticas = estadisticas;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    void setToken(String token) {
+        this.token = token;
+    }
+
+    Respuesta get(String endpoint, String ruta) {
+        return enviar(endpoint, peticion(ruta).GET(), estado -> estado >= 200 && estado < 400);
+    }
+
+    Respuesta delete(String endpoint, String ruta) {
+        return enviar(endpoint, peticion(ruta).DELETE(), estado -> estado >= 200 && estado < 400);
+    }
+
+    Respuesta postJson(String endpoint, String ruta, String json) {
+        return enviar(endpoint, peticion(ruta)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)), estado -> estado >= 200 && estado < 300);
+    }
+
+    /**
+     * Envía un formulario; en la web un envío correcto responde con una redirección.
+     *
+     * @param endpoint Nombre del endpoint
+     * @param ruta Ruta relativa a la URL base
+     * @param campos Campos del formulario
+     * @param exito Estados HTTP que se consideran correctos
+     * @return Respuesta
+     */
+    Respuesta postFormulario(String endpoint, String ruta, Map<String, String> campos, IntPredicate exito) {
+        String cuerpo = campos.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return enviar(endpoint, peticion(ruta)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo)), exito);
+    }
+
+    private HttpRequest.Builder peticion(String ruta) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + ruta)).timeout(timeout);
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Respuesta enviar(String endpoint, HttpRequest.Builder builder, IntPredicate exito) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<byte[]> respuesta = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long nanos = System.nanoTime() - inicio;
+
+            respuesta.headers().allValues("Set-Cookie").stream()
+                    .filter(c -> c.startsWith("JSESSIONID="))
+                    .findFirst()
+                    .ifPresent(c -> cookie = c.substring(0, c.indexOf(';') > 0 ? c.indexOf(';') : c.length()));
+
+            boolean correcta = exito.test(respuesta.statusCode());
+            estadisticas.registrar(endpoint, nanos, !correcta);
+
+            String tipo = respuesta.headers().firstValue("Content-Type").orElse("");
+            String cuerpo = tipo.startsWith("application/pdf") ? "" : new String(respuesta.body(), StandardCharsets.UTF_8);
+            return new Respuesta(correcta ? respuesta.statusCode() : Math.max(respuesta.statusCode(), 400), cuerpo);
+        } catch (IOException e) {
+            estadisticas.registrar(endpoint, System.nanoTime() - inicio, true);
+            return new Respuesta(-1, "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Respuesta(-1, "");
+        }
+    }
+}
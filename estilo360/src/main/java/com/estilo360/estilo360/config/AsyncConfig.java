@@ -1,17 +1,165 @@
 package com.estilo360.estilo360.config;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuración de la aplicación para habilitar la ejecución de métodos asíncronos.
- * 
+ *
  * Esta clase permite el uso de la anotación {@code @Async} en métodos del proyecto,
  * facilitando la ejecución de tareas en segundo plano sin bloquear el hilo principal.
- * 
- * @version 1.0
+ *
+ * Define dos ejecutores con nombre, ambos con cola acotada para que un pico de
+ * registros no pueda acumular tareas sin límite en memoria:
+ * - {@code taskExecutor}: pool de hilos de plataforma para las tareas {@code @Async} genéricas.
+ * - {@code mailExecutor}: ejecutor en el que el worker de la cola de trabajos
+ *   envía los correos; según
+ *   {@code app.async.mail.modo} usa hilos de plataforma o hilos virtuales
+ *   (adecuados para trabajo bloqueado en E/S como SMTP).
+ *
+ * Cuando la cola se llena la tarea se ejecuta en el hilo que la envía
+ * (política "caller runs"), de modo que no se pierden correos y el productor
+ * se frena de forma natural. Cada ejecutor publica métricas de tareas activas,
+ * tamaño de cola, rechazos y latencia (espera en cola y ejecución).
+ *
+ * @version 1.1
  */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+    /** Logger para registrar errores de tareas asíncronas */
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    /** Registro de métricas de Micrometer */
+    private final MeterRegistry meterRegistry;
+
+    /** Número de hilos del pool genérico */
+    @Value("${app.async.hilos:4}")
+    private int hilos;
+
+    /** Capacidad de la cola del pool genérico */
+    @Value("${app.async.capacidad-cola:100}")
+    private int capacidadCola;
+
+    /** Modo del ejecutor de correo: "plataforma" o "virtual" */
+    @Value("${app.async.mail.modo:virtual}")
+    private String modoMail;
+
+    /** Número máximo de envíos de correo simultáneos */
+    @Value("${app.async.mail.concurrencia:8}")
+    private int concurrenciaMail;
+
+    /** Capacidad de la cola de envíos de correo pendientes */
+    @Value("${app.async.mail.capacidad-cola:500}")
+    private int capacidadColaMail;
+
+    /**
+     * Constructor que inyecta el registro de métricas.
+     *
+     * @param meterRegistry Registro de métricas de Micrometer
+     */
+    public AsyncConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Ejecutor por defecto para los métodos {@code @Async} sin nombre de ejecutor.
+     *
+     * @return Pool acotado de hilos de plataforma
+     */
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return crearEjecutor("async", hilos, capacidadCola, false);
+    }
+
+    /**
+     * Ejecutor dedicado al envío de correos electrónicos.
+     *
+     * @return Pool acotado con hilos virtuales o de plataforma según configuración
+     */
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        boolean virtual = "virtual".equalsIgnoreCase(modoMail);
+        return crearEjecutor("mail", concurrenciaMail, capacidadColaMail, virtual);
+    }
+
+    /**
+     * Devuelve el ejecutor utilizado por {@code @Async} cuando no se indica ninguno.
+     *
+     * @return Ejecutor por defecto
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    /**
+     * Registra en el log las excepciones no capturadas de métodos {@code @Async void}.
+     *
+     * @return Manejador de excepciones asíncronas
+     */
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (Throwable ex, Method method, Object... params) ->
+                log.error("Error en tarea asíncrona {}: {}", method.getName(), ex.getMessage(), ex);
+    }
+
+    /**
+     * Crea un ejecutor acotado con propagación de MDC, política de rechazo y métricas.
+     *
+     * @param nombre Nombre del ejecutor (prefijo de hilos y etiqueta de métricas)
+     * @param hilos Número de hilos (núcleo y máximo)
+     * @param capacidadCola Capacidad máxima de la cola de tareas pendientes
+     * @param virtual true para usar hilos virtuales
+     * @return Ejecutor configurado
+     */
+    private ThreadPoolTaskExecutor crearEjecutor(String nombre, int hilos, int capacidadCola, boolean virtual) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(nombre + "-");
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(capacidadCola);
+        executor.setVirtualThreads(virtual);
+        executor.setTaskDecorator(new MdcTaskDecorator(meterRegistry, nombre));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Counter rechazos = Counter.builder("estilo360.async.rechazos")
+                .description("Tareas que no cupieron en la cola y se ejecutaron en el hilo llamante")
+                .tag("ejecutor", nombre)
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+        executor.setRejectedExecutionHandler((tarea, pool) -> {
+            rechazos.increment();
+            log.warn("Cola del ejecutor '{}' llena, la tarea se ejecuta en el hilo llamante", nombre);
+            callerRuns.rejectedExecution(tarea, pool);
+        });
+
+        Gauge.builder("estilo360.async.activas", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Tareas en ejecución")
+                .tag("ejecutor", nombre)
+                .register(meterRegistry);
+        Gauge.builder("estilo360.async.cola", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Tareas pendientes en cola")
+                .tag("ejecutor", nombre)
+                .register(meterRegistry);
+
+        return executor;
+    }
 }
@@ -0,0 +1,165 @@
+package com.estilo360.estilo360.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Cuenta las sentencias SQL que ejecuta cada hilo entre {@link #iniciar()} y
+ * {@link #terminar()}, con su tiempo de ejecución.
+ *
+ * Se registra como listener del datasource-proxy que envuelve el datasource
+ * de la aplicación (ver {@link SentenciasSqlConfig}). El filtro
+ * {@link SentenciasSqlFilter} lo usa para cada petición HTTP y los tests para
+ * comprobar cuántas sentencias ejecuta una llamada. Fuera de una medición
+ * (tareas programadas, trabajos) solo registra en el log las sentencias lentas.
+ *
+ * @version 1.0
+ */
+public class ContadorSentencias implements QueryExecutionListener {
+
+    /** Máximo de sentencias distintas que se guardan para el log */
+    private static final int MAX_DETALLE = 50;
+
+    /** Longitud máxima del SQL en el log */
+    private static final int MAX_SQL = 500;
+
+    /** Tiempo a partir del cual una sentencia se considera lenta */
+    private final long lentaMs;
+
+    /** Medición en curso en cada hilo */
+    private final ThreadLocal<Medicion> medicion = new ThreadLocal<>();
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(ContadorSentencias.class);
+
+    /**
+     * Resumen de una sentencia, agrupando sus ejecuciones con el mismo SQL.
+     *
+     * @param sql Sentencia SQL
+     * @param ejecuciones Veces que se ha ejecutado
+     * @param tiempoMs Tiempo total de ejecución
+     * @param maximoMs Ejecución más lenta
+     * @param parametros Parámetros de la última ejecución
+     * @param lote Tamaño del último lote (1 si no es un lote)
+     */
+    public record Sentencia(String sql, int ejecuciones, long tiempoMs, long maximoMs, int parametros, int lote) {
+
+        @Override
+        public String toString() {
+            String texto = sql.length() > MAX_SQL ? sql.substring(0, MAX_SQL) + "..." : sql;
+            return String.format("%dx, %d ms (máx. %d ms), %d parámetros%s: %s",
+                    ejecuciones, tiempoMs, maximoMs, parametros, lote > 1 ? ", lote de " + lote : "", texto);
+        }
+    }
+
+    /**
+     * Resultado de una medición.
+     *
+     * @param sentencias Número de sentencias ejecutadas
+     * @param tiempoMs Tiempo total en la base de datos
+     * @param maximoMs Sentencia más lenta
+     * @param detalle Sentencias agrupadas por SQL, en orden de primera ejecución
+     */
+    public record Resumen(int sentencias, long tiempoMs, long maximoMs, List<Sentencia> detalle) {
+    }
+
+    /** Medición en curso de un hilo */
+    private static final class Medicion {
+        private int sentencias;
+        private long tiempoMs;
+        private long maximoMs;
+        private final Map<String, Sentencia> detalle = new LinkedHashMap<>();
+    }
+
+    /**
+     * Crea el contador.
+     *
+     * @param lentaMs Tiempo a partir del cual una sentencia se considera lenta
+     */
+    public ContadorSentencias(long lentaMs) {
+        this.lentaMs = lentaMs;
+    }
+
+    /**
+     * Empieza a contar las sentencias del hilo actual. Si ya hay una medición
+     * en curso (por ejemplo, un test que mide una petición), se sigue usando esa.
+     *
+     * @return true si se ha iniciado una medición nueva, que debe cerrarse con {@link #terminar()}
+     */
+    public boolean iniciar() {
+        if (medicion.get() != null) {
+            return false;
+        }
+        medicion.set(new Medicion());
+        return true;
+    }
+
+    /**
+     * Termina la medición del hilo actual.
+     *
+     * @return Resumen de las sentencias ejecutadas
+     */
+    public Resumen terminar() {
+        Medicion m = medicion.get();
+        medicion.remove();
+        if (m == null) {
+            return new Resumen(0, 0, 0, List.of());
+        }
+        return new Resumen(m.sentencias, m.tiempoMs, m.maximoMs, new ArrayList<>(m.detalle.values()));
+    }
+
+    /**
+     * Indica si una sentencia se considera lenta.
+     *
+     * @param ms Tiempo de ejecución
+     * @return true si alcanza el umbral de sentencia lenta
+     */
+    public boolean esLenta(long ms) {
+        return ms >= lentaMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long ms = execInfo.getElapsedTime();
+        Medicion m = medicion.get();
+
+        if (m == null) {
+            if (esLenta(ms)) {
+                for (QueryInfo queryInfo : queryInfoList) {
+                    log.warn("Sentencia SQL lenta ({} ms): {}", ms, queryInfo.getQuery());
+                }
+            }
+            return;
+        }
+
+        m.sentencias++;
+        m.tiempoMs += ms;
+        m.maximoMs = Math.max(m.maximoMs, ms);
+
+        // Las sentencias de un lote comparten el tiempo de ejecución
+        for (QueryInfo queryInfo : queryInfoList) {
+            int lote = Math.max(1, queryInfo.getParametersList().size());
+            int parametros = queryInfo.getParametersList().isEmpty() ? 0 : queryInfo.getParametersList().get(0).size();
+            Sentencia anterior = m.detalle.get(queryInfo.getQuery());
+            if (anterior != null) {
+                m.detalle.put(queryInfo.getQuery(), new Sentencia(anterior.sql(), anterior.ejecuciones() + 1,
+                        anterior.tiempoMs() + ms, Math.max(anterior.maximoMs(), ms), parametros, lote));
+            } else if (m.detalle.size() < MAX_DETALLE) {
+                m.detalle.put(queryInfo.getQuery(), new Sentencia(queryInfo.getQuery(), 1, ms, ms, parametros, lote));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.estilo360.estilo360.config;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Decorador de tareas asíncronas.
+ *
+ * Copia el contexto MDC del hilo que envía la tarea al hilo que la ejecuta,
+ * de forma que los logs de una tarea {@code @Async} conservan la información
+ * de la petición que la originó. Además mide el tiempo que la tarea pasa
+ * esperando en la cola y el tiempo de ejecución.
+ *
+ * @version 1.0
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    /** Tiempo de espera en cola de las tareas */
+    private final Timer espera;
+
+    /** Tiempo de ejecución de las tareas */
+    private final Timer ejecucion;
+
+    /**
+     * Constructor que registra los temporizadores del ejecutor.
+     *
+     * @param meterRegistry Registro de métricas de Micrometer
+     * @param ejecutor Nombre del ejecutor (etiqueta de las métricas)
+     */
+    public MdcTaskDecorator(MeterRegistry meterRegistry, String ejecutor) {
+        this.espera = Timer.builder("estilo360.async.espera")
+                .description("Tiempo de espera en cola antes de ejecutar la tarea")
+                .tag("ejecutor", ejecutor)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.ejecucion = Timer.builder("estilo360.async.ejecucion")
+                .description("Tiempo de ejecución de la tarea")
+                .tag("ejecutor", ejecutor)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Envuelve la tarea para propagar el MDC y registrar su latencia.
+     *
+     * @param tarea Tarea original
+     * @return Tarea decorada
+     */
+    @Override
+    public Runnable decorate(Runnable tarea) {
+        Map<String, String> contexto = MDC.getCopyOfContextMap();
+        long encolada = System.nanoTime();
+
+        return () -> {
+            long inicio = System.nanoTime();
+            espera.record(inicio - encolada, TimeUnit.NANOSECONDS);
+
+            Map<String, String> anterior = MDC.getCopyOfContextMap();
+            if (contexto != null) {
+                MDC.setContextMap(contexto);
+            } else {
+                MDC.clear();
+            }
+
+            try {
+                tarea.run();
+            } finally {
+                ejecucion.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                if (anterior != null) {
+                    MDC.setContextMap(anterior);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
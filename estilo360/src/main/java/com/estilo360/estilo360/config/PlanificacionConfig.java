@@ -0,0 +1,19 @@
+package com.estilo360.estilo360.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración que habilita las tareas programadas ({@code @Scheduled}).
+ *
+ * Puede desactivarse con {@code app.planificacion.habilitada=false}, por ejemplo
+ * en herramientas de línea de comandos o en tests que no deben lanzar tareas periódicas.
+ *
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.planificacion.habilitada", havingValue = "true", matchIfMissing = true)
+public class PlanificacionConfig {
+}
@@ -0,0 +1,60 @@
+package com.estilo360.estilo360.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configuración del proxy del datasource que cuenta y mide las sentencias SQL.
+ *
+ * Sustituye a {@code spring.jpa.show-sql}: en lugar de escribir cada sentencia
+ * en la salida estándar, el datasource se envuelve con datasource-proxy y las
+ * sentencias se cuentan por petición ({@link SentenciasSqlFilter}); solo se
+ * registran las peticiones que superan los umbrales configurados.
+ *
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class SentenciasSqlConfig {
+
+    /**
+     * Contador de sentencias por hilo.
+     *
+     * @param lentaMs Tiempo a partir del cual una sentencia se considera lenta
+     * @return Contador de sentencias
+     */
+    @Bean
+    public static ContadorSentencias contadorSentencias(@Value("${app.sql.lenta-ms:200}") long lentaMs) {
+        return new ContadorSentencias(lentaMs);
+    }
+
+    /**
+     * Envuelve los datasources de la aplicación con el proxy del contador.
+     * El proxy delega {@code unwrap}, por lo que se sigue pudiendo obtener la
+     * conexión nativa de Postgres (COPY del generador de datos).
+     *
+     * @param contador Contador de sentencias
+     * @return Post-procesador de los datasources
+     */
+    @Bean
+    public static BeanPostProcessor proxyDataSourceSentencias(ObjectProvider<ContadorSentencias> contador) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(contador.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.estilo360.estilo360.config;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que cuenta las sentencias SQL de cada petición HTTP.
+ *
+ * Publica el número de sentencias por endpoint (métrica
+ * {@code estilo360.sql.sentencias}) y registra en el log, con el detalle de
+ * cada sentencia, las peticiones que superan {@code app.sql.max-sentencias}
+ * o que ejecutan alguna sentencia más lenta que {@code app.sql.lenta-ms}.
+ *
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SentenciasSqlFilter extends OncePerRequestFilter {
+
+    /** Contador de sentencias por hilo */
+    private final ContadorSentencias contador;
+
+    /** Registro de métricas de Micrometer */
+    private final MeterRegistry meterRegistry;
+
+    /** Número de sentencias a partir del cual se registra la petición */
+    @Value("${app.sql.max-sentencias:20}")
+    private int maxSentencias;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(SentenciasSqlFilter.class);
+
+    /**
+     * Constructor que inyecta el contador de sentencias y el registro de métricas.
+     *
+     * @param contador Contador de sentencias
+     * @param meterRegistry Registro de métricas de Micrometer
+     */
+    public SentenciasSqlFilter(ContadorSentencias contador, MeterRegistry meterRegistry) {
+        this.contador = contador;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        // Si ya hay una medición en curso (un test), es quien la cierra
+        if (!contador.iniciar()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContadorSentencias.Resumen resumen = contador.terminar();
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = patron != null ? patron.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("estilo360.sql.sentencias")
+                    .description("Sentencias SQL ejecutadas por petición")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(resumen.sentencias());
+
+            if (resumen.sentencias() > maxSentencias || contador.esLenta(resumen.maximoMs())) {
+                registrar(request.getMethod() + " " + uri, resumen);
+            }
+        }
+    }
+
+    /**
+     * Registra en el log una petición que supera los umbrales, con sus sentencias.
+     *
+     * @param peticion Método y endpoint de la petición
+     * @param resumen Sentencias de la petición
+     */
+    private void registrar(String peticion, ContadorSentencias.Resumen resumen) {
+        StringBuilder detalle = new StringBuilder();
+        resumen.detalle().forEach(s -> detalle.append("\n  ").append(s));
+        log.warn("{}: {} sentencias SQL en {} ms (máximo {} sentencias, más lenta {} ms){}",
+                peticion, resumen.sentencias(), resumen.tiempoMs(), maxSentencias, resumen.maximoMs(), detalle);
+    }
+}
@@ -0,0 +1,30 @@
+package com.estilo360.estilo360.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un método (normalmente {@code @Scheduled}) para que solo se ejecute
+ * en el nodo que tiene el liderazgo indicado.
+ *
+ * En el resto de nodos la llamada se omite sin error. El liderazgo se obtiene
+ * con un bloqueo consultivo de Postgres, ver
+ * {@link com.estilo360.estilo360.services.LiderazgoService}.
+ *
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SoloLider {
+
+    /**
+     * Nombre del liderazgo. Las tareas con el mismo nombre comparten líder.
+     *
+     * @return Nombre del liderazgo
+     */
+    String value();
+}
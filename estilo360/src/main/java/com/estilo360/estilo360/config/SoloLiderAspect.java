@@ -0,0 +1,56 @@
+package com.estilo360.estilo360.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.estilo360.estilo360.services.LiderazgoService;
+
+/**
+ * Aspecto que aplica la anotación {@link SoloLider}.
+ *
+ * Antes de ejecutar el método comprueba si este nodo es el líder; si no lo es,
+ * omite la ejecución y devuelve {@code null}.
+ *
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class SoloLiderAspect {
+
+    /** Servicio de elección de líder */
+    private final LiderazgoService liderazgoService;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(SoloLiderAspect.class);
+
+    /**
+     * Constructor que inyecta el servicio de elección de líder.
+     *
+     * @param liderazgoService Servicio de elección de líder
+     */
+    public SoloLiderAspect(LiderazgoService liderazgoService) {
+        this.liderazgoService = liderazgoService;
+    }
+
+    /**
+     * Ejecuta el método anotado solo si este nodo es el líder.
+     *
+     * @param joinPoint Método interceptado
+     * @param soloLider Anotación del método
+     * @return Resultado del método, o null si no se ejecuta
+     * @throws Throwable si el método lanza una excepción
+     */
+    @Around("@annotation(soloLider)")
+    public Object ejecutarSiLider(ProceedingJoinPoint joinPoint, SoloLider soloLider) throws Throwable {
+        if (!liderazgoService.esLider(soloLider.value())) {
+            log.debug("{} omitido: este nodo no es el líder de {}",
+                    joinPoint.getSignature().toShortString(), soloLider.value());
+            return null;
+        }
+        return joinPoint.proceed();
+    }
+}
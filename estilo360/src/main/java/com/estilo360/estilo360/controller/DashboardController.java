@@ -0,0 +1,54 @@
+package com.estilo360.estilo360.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.estilo360.estilo360.dto.DashboardClienteDTO;
+import com.estilo360.estilo360.services.CitaService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+
+/**
+ * Controlador REST para los datos agregados de los dashboards.
+ *
+ * Devuelve en una sola respuesta la información que el dashboard del cliente
+ * obtenía con varias peticiones (perfil, próxima cita, historial y citas).
+ *
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    /** Número de citas del historial que muestra el dashboard */
+    private static final int LIMITE_HISTORIAL = 3;
+
+    /** Servicio de negocio encargado de la gestión de citas */
+    private final CitaService citaService;
+
+
+    /**
+     * Constructor del controlador de dashboards.
+     *
+     * @param citaService Servicio que contiene la lógica de negocio de citas
+     */
+    public DashboardController(CitaService citaService) {
+        this.citaService = citaService;
+    }
+
+
+    /**
+     * Obtiene los datos del dashboard del cliente autenticado.
+     *
+     * @param request Petición HTTP que contiene el token de autenticación
+     * @return Perfil, próxima cita, historial y citas del usuario
+     */
+    @GetMapping("/cliente")
+    public ResponseEntity<DashboardClienteDTO> obtenerDashboardCliente(HttpServletRequest request) {
+        String token = request.getHeader("Authorization").substring(7);
+        return ResponseEntity.ok(citaService.obtenerDashboardCliente(token, LIMITE_HISTORIAL));
+    }
+}
@@ -9,11 +9,16 @@ import com.estilo360.estilo360.dto.ServicioDTO;
 import com.estilo360.estilo360.services.PdfService;
 import com.estilo360.estilo360.services.ServicioService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import org.springframework.web.context.request.WebRequest;
+
 import jakarta.validation.Valid;
 
 
@@ -24,7 +29,7 @@ import jakarta.validation.Valid;
  * servicios, así como para la descarga de un documento PDF con la información
  * de los servicios disponibles.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @RestController
 @RequestMapping("/servicios")
@@ -36,6 +41,9 @@ public class ServicioController {
     
     /** Servicio encargado de la generación de documentos PDF */
     private final PdfService pdfService;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(ServicioController.class);
     
     
     /**
@@ -108,11 +116,24 @@ public class ServicioController {
     /**
      * Descarga un archivo PDF con el listado de servicios.
      * 
-     * @return Respuesta HTTP con el archivo PDF adjunto
+     * La respuesta lleva un ETag calculado a partir de los servicios. Si la
+     * petición trae un If-None-Match que coincide, se responde 304 sin
+     * generar el PDF.
+     * 
+     * @param request Petición, para comprobar las cabeceras condicionales
+     * @return Respuesta HTTP con el archivo PDF adjunto, o 304 si no ha cambiado
      */
     @GetMapping("/descargar-pdf")
-    public ResponseEntity<byte[]> descargarPdfServicios() {
+    public ResponseEntity<byte[]> descargarPdfServicios(WebRequest request) {
         try {
+            String etag = pdfService.calcularEtag();
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
             byte[] pdfBytes = pdfService.generarPdfServicios();
 
             HttpHeaders headers = new HttpHeaders();
@@ -121,10 +142,12 @@ public class ServicioController {
 
             return ResponseEntity.ok()
                     .headers(headers)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
                     .body(pdfBytes);
 
         } catch (Exception e) {
-            System.err.println("Error al descargar PDF: " + e.getMessage());
+            log.error("Error al descargar PDF: {}", e.getMessage());
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -1,12 +1,22 @@
 package com.estilo360.estilo360.dao;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.estilo360.estilo360.entidades.Cita;
+import com.estilo360.estilo360.entidades.EstadoCita;
 
 /**
  * Repositorio JPA para la gestión de entidades {@link Cita}.
@@ -41,4 +51,112 @@ public interface CitaDAO extends JpaRepository<Cita, Long> {
      */
     List<Cita> findByEmpleado_IdEmpleadoAndFecha(Long empleadoId, LocalDate fecha);
 
-}
\ No newline at end of file
+    /**
+     * Obtiene las citas vigentes de una ventana de tiempo cuyo recordatorio
+     * aún no se ha enviado, ordenadas por fecha y hora.
+     * 
+     * La consulta acota primero por rango de {@code fecha} (índice sobre fecha y hora),
+     * por lo que su coste depende del tamaño de la ventana y no del total de citas.
+     * 
+     * @param desdeFecha Fecha de inicio de la ventana
+     * @param desdeHora Hora de inicio de la ventana (incluida)
+     * @param hastaFecha Fecha de fin de la ventana
+     * @param hastaHora Hora de fin de la ventana (excluida)
+     * @param estados Estados de las citas a recordar
+     * @param pagina Tamaño máximo del lote a devolver
+     * @return Lote de citas pendientes de recordatorio
+     */
+    @Query("SELECT c FROM Cita c JOIN FETCH c.usuario JOIN FETCH c.empleado JOIN FETCH c.servicio "
+            + "WHERE c.fecha BETWEEN :desdeFecha AND :hastaFecha "
+            + "AND (c.fecha > :desdeFecha OR c.hora >= :desdeHora) "
+            + "AND (c.fecha < :hastaFecha OR c.hora < :hastaHora) "
+            + "AND c.recordatorioEnviadoEn IS NULL "
+            + "AND c.estado IN :estados "
+            + "ORDER BY c.fecha, c.hora")
+    List<Cita> findPendientesDeRecordatorio(@Param("desdeFecha") LocalDate desdeFecha,
+                                            @Param("desdeHora") LocalTime desdeHora,
+                                            @Param("hastaFecha") LocalDate hastaFecha,
+                                            @Param("hastaHora") LocalTime hastaHora,
+                                            @Param("estados") Collection<EstadoCita> estados,
+                                            Pageable pagina);
+
+    /**
+     * Marca como enviado el recordatorio de un conjunto de citas.
+     * Solo afecta a las citas que todavía no lo tenían marcado.
+     * 
+     * @param ids Identificadores de las citas
+     * @param enviadoEn Momento del envío
+     * @return Número de citas marcadas
+     */
+    @Modifying
+    @Query("UPDATE Cita c SET c.recordatorioEnviadoEn = :enviadoEn "
+            + "WHERE c.id_cita IN :ids AND c.recordatorioEnviadoEn IS NULL")
+    int marcarRecordatorioEnviado(@Param("ids") Collection<Long> ids,
+                                  @Param("enviadoEn") LocalDateTime enviadoEn);
+
+    /**
+     * Obtiene la próxima cita vigente de un usuario.
+     * 
+     * Los estados se filtran con literales ({@code estado IN (0, 1)}) para que
+     * Postgres pueda usar el índice parcial de citas vigentes por usuario.
+     * 
+     * @param usuarioId Identificador del usuario
+     * @param hoy Fecha actual
+     * @param ahora Hora actual
+     * @return Próxima cita del usuario, si existe
+     */
+    @Query(value = "SELECT * FROM citas "
+            + "WHERE usuario_id = :usuarioId AND estado IN (0, 1) "
+            + "AND (fecha > :hoy OR (fecha = :hoy AND hora > :ahora)) "
+            + "ORDER BY fecha, hora "
+            + "LIMIT 1", nativeQuery = true)
+    Optional<Cita> findProximaVigente(@Param("usuarioId") Long usuarioId,
+                                      @Param("hoy") LocalDate hoy,
+                                      @Param("ahora") LocalTime ahora);
+
+    /**
+     * Obtiene las citas pasadas de un usuario, de la más reciente a la más antigua.
+     * 
+     * @param usuarioId Identificador del usuario
+     * @param hoy Fecha actual
+     * @param ahora Hora actual
+     * @param pagina Número máximo de citas a devolver
+     * @return Citas pasadas del usuario
+     */
+    @Query("SELECT c FROM Cita c JOIN FETCH c.empleado JOIN FETCH c.servicio "
+            + "WHERE c.usuario.id_usuario = :usuarioId "
+            + "AND (c.fecha < :hoy OR (c.fecha = :hoy AND c.hora < :ahora)) "
+            + "ORDER BY c.fecha DESC, c.hora DESC")
+    List<Cita> findHistorial(@Param("usuarioId") Long usuarioId,
+                             @Param("hoy") LocalDate hoy,
+                             @Param("ahora") LocalTime ahora,
+                             Pageable pagina);
+
+    /**
+     * Obtiene todas las citas de un usuario, de la más reciente a la más antigua.
+     * 
+     * @param usuarioId Identificador del usuario
+     * @return Citas del usuario
+     */
+    @Query("SELECT c FROM Cita c JOIN FETCH c.empleado JOIN FETCH c.servicio "
+            + "WHERE c.usuario.id_usuario = :usuarioId "
+            + "ORDER BY c.fecha DESC, c.hora DESC")
+    List<Cita> findByUsuario(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Marca como completadas, en una sola sentencia, las citas pendientes o
+     * confirmadas cuya fecha y hora ya han pasado.
+     * 
+     * @param hoy Fecha actual
+     * @param ahora Hora actual
+     * @return Número de citas completadas
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE citas SET estado = 3 "
+            + "WHERE estado IN (0, 1) "
+            + "AND (fecha < :hoy OR (fecha = :hoy AND hora < :ahora))", nativeQuery = true)
+    int completarCitasPasadas(@Param("hoy") LocalDate hoy,
+                              @Param("ahora") LocalTime ahora);
+
+}
@@ -1,19 +1,27 @@
 package com.estilo360.estilo360.dao;
 
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import com.estilo360.estilo360.entidades.Empleado;
 
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repositorio JPA para la gestión de entidades {@link Empleado}.
  * 
  * Proporciona métodos de acceso a datos relacionados con los empleados,
  * incluyendo la búsqueda por correo electrónico.
  * 
- * @version 1.0
+ * Los empleados se guardan en la caché de segundo nivel; el listado completo,
+ * además, en la caché de consultas.
+ * 
+ * @version 1.1
  */
 @Repository
 public interface EmpleadoDAO extends JpaRepository<Empleado, Long> {
@@ -25,4 +33,17 @@ public interface EmpleadoDAO extends JpaRepository<Empleado, Long> {
      * @return Optional que contiene el empleado si existe, o vacío si no se encuentra
      */
     Optional<Empleado> findByCorreo(String correo);
+
+    /**
+     * Obtiene todos los empleados. El resultado se guarda en la caché de
+     * consultas y se invalida al modificar cualquier empleado.
+     * 
+     * @return Lista de empleados
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "estilo360.consultas-referencia")
+    })
+    List<Empleado> findAll();
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.estilo360.estilo360.dao;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.estilo360.estilo360.entidades.Servicio;
 
 /**
@@ -11,9 +18,39 @@ import com.estilo360.estilo360.entidades.Servicio;
  * Proporciona métodos de acceso a datos relacionados con los servicios.
  * Al extender JpaRepository, hereda operaciones CRUD básicas.
  * 
- * @version 1.0
+ * Los servicios se guardan en la caché de segundo nivel; el listado completo,
+ * además, en la caché de consultas.
+ * 
+ * @version 1.2
  */
 @Repository
 public interface ServicioDAO extends JpaRepository<Servicio, Long> {
 
+    /**
+     * Obtiene todos los servicios. El resultado se guarda en la caché de
+     * consultas y se invalida al modificar cualquier servicio.
+     * 
+     * @return Lista de servicios
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "estilo360.consultas-referencia")
+    })
+    List<Servicio> findAll();
+
+    /**
+     * Obtiene todos los servicios ordenados por id, para los documentos que
+     * deben salir siempre iguales con los mismos datos (el PDF del catálogo y
+     * su ETag). Sin orden, Postgres puede devolver las filas en otro orden.
+     * Se guarda en la caché de consultas igual que {@link #findAll()}.
+     * 
+     * @return Lista de servicios ordenada por id
+     */
+    @Query("SELECT s FROM Servicio s ORDER BY s.id_servicio")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "estilo360.consultas-referencia")
+    })
+    List<Servicio> findAllOrderById();
 }
\ No newline at end of file
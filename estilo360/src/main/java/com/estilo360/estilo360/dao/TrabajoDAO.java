@@ -0,0 +1,96 @@
+package com.estilo360.estilo360.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estilo360.estilo360.entidades.Trabajo;
+
+/**
+ * Repositorio JPA para la gestión de entidades {@link Trabajo}.
+ *
+ * Proporciona la consulta con la que los workers reclaman lotes de trabajos
+ * y las actualizaciones con las que registran su resultado.
+ *
+ */
+@Repository
+public interface TrabajoDAO extends JpaRepository<Trabajo, Long> {
+
+    /**
+     * Bloquea un lote de trabajos disponibles de un tipo.
+     *
+     * Un trabajo está disponible si está pendiente y ha llegado su momento, o si
+     * estaba en proceso pero su bloqueo ha caducado (el worker que lo tenía cayó).
+     * {@code FOR UPDATE SKIP LOCKED} hace que varios workers, incluso de nodos
+     * distintos, reclamen lotes disjuntos sin esperarse entre sí. Debe llamarse
+     * dentro de una transacción, que es la que mantiene el bloqueo de las filas.
+     *
+     * @param tipo Tipo de trabajo
+     * @param ahora Momento actual
+     * @param limite Número máximo de trabajos a reclamar
+     * @return Trabajos bloqueados para la transacción actual
+     */
+    @Query(value = "SELECT * FROM trabajos "
+            + "WHERE tipo = :tipo "
+            + "AND ((estado = 'pendiente' AND disponible_en <= :ahora) "
+            + "OR (estado = 'en_proceso' AND bloqueado_hasta < :ahora)) "
+            + "ORDER BY disponible_en "
+            + "LIMIT :limite "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Trabajo> bloquearDisponibles(@Param("tipo") String tipo,
+                                      @Param("ahora") LocalDateTime ahora,
+                                      @Param("limite") int limite);
+
+    /**
+     * Elimina un trabajo completado.
+     *
+     * Solo tiene efecto si el trabajo sigue reclamado por el mismo nodo y en el mismo
+     * intento; si el bloqueo caducó y otro worker lo reclamó, no se toca.
+     *
+     * @param id Identificador del trabajo
+     * @param nodo Nodo que lo reclamó
+     * @param intentos Número de intento con el que se reclamó
+     * @return Número de trabajos eliminados
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Trabajo t WHERE t.idTrabajo = :id AND t.estado = 'en_proceso' "
+            + "AND t.bloqueadoPor = :nodo AND t.intentos = :intentos")
+    int completar(@Param("id") Long id,
+                  @Param("nodo") String nodo,
+                  @Param("intentos") int intentos);
+
+    /**
+     * Registra el fallo de un trabajo, devolviéndolo a pendiente o dejándolo como fallido.
+     *
+     * Igual que {@link #completar}, solo afecta al trabajo si sigue reclamado por
+     * el mismo nodo y en el mismo intento.
+     *
+     * @param id Identificador del trabajo
+     * @param nodo Nodo que lo reclamó
+     * @param intentos Número de intento con el que se reclamó
+     * @param estado Nuevo estado (pendiente o fallido)
+     * @param disponibleEn Momento del siguiente reintento
+     * @param error Mensaje del error
+     * @return Número de trabajos actualizados
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Trabajo t SET t.estado = :estado, t.disponibleEn = :disponibleEn, "
+            + "t.ultimoError = :error, t.bloqueadoHasta = NULL, t.bloqueadoPor = NULL "
+            + "WHERE t.idTrabajo = :id AND t.estado = 'en_proceso' "
+            + "AND t.bloqueadoPor = :nodo AND t.intentos = :intentos")
+    int registrarFallo(@Param("id") Long id,
+                       @Param("nodo") String nodo,
+                       @Param("intentos") int intentos,
+                       @Param("estado") String estado,
+                       @Param("disponibleEn") LocalDateTime disponibleEn,
+                       @Param("error") String error);
+
+}
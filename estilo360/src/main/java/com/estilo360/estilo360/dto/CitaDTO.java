@@ -35,7 +35,7 @@ public class CitaDTO {
     @NotNull
     private String hora;
 
-    /** Estado de la cita (pendiente, confirmada, cancelada, etc.) */
+    /** Estado de la cita (pendiente, confirmada, cancelada o completada) */
     private String estado;
 
     /** Observaciones adicionales sobre la cita */
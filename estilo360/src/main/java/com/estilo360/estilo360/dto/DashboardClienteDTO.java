@@ -0,0 +1,74 @@
+package com.estilo360.estilo360.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) con los datos del dashboard del cliente.
+ *
+ * Reúne en una sola respuesta el perfil del usuario autenticado, su próxima
+ * cita, su historial reciente y la lista completa de sus citas, que antes
+ * se obtenían con cuatro peticiones distintas.
+ *
+ * @version 1.0
+ */
+public class DashboardClienteDTO {
+
+    /** Perfil del usuario autenticado (sin contraseña) */
+    private UsuarioDTO usuario;
+
+    /** Próxima cita pendiente o confirmada, o null si no tiene */
+    private CitaDTO proximaCita;
+
+    /** Últimas citas pasadas, de la más reciente a la más antigua */
+    private List<CitaDTO> historial;
+
+    /** Todas las citas del usuario, de la más reciente a la más antigua */
+    private List<CitaDTO> citas;
+
+    /**
+     * Constructor vacío para uso de frameworks y serialización.
+     */
+    public DashboardClienteDTO() {}
+
+    /**
+     * Constructor completo.
+     *
+     * @param usuario Perfil del usuario
+     * @param proximaCita Próxima cita vigente o null
+     * @param historial Últimas citas pasadas
+     * @param citas Todas las citas del usuario
+     */
+    public DashboardClienteDTO(UsuarioDTO usuario, CitaDTO proximaCita,
+            List<CitaDTO> historial, List<CitaDTO> citas) {
+        this.usuario = usuario;
+        this.proximaCita = proximaCita;
+        this.historial = historial;
+        this.citas = citas;
+    }
+
+    // Getters y setters
+
+    /** @return Perfil del usuario */
+    public UsuarioDTO getUsuario() { return usuario; }
+
+    /** @return Próxima cita vigente o null */
+    public CitaDTO getProximaCita() { return proximaCita; }
+
+    /** @return Últimas citas pasadas */
+    public List<CitaDTO> getHistorial() { return historial; }
+
+    /** @return Todas las citas del usuario */
+    public List<CitaDTO> getCitas() { return citas; }
+
+    /** @param usuario Perfil del usuario */
+    public void setUsuario(UsuarioDTO usuario) { this.usuario = usuario; }
+
+    /** @param proximaCita Próxima cita vigente o null */
+    public void setProximaCita(CitaDTO proximaCita) { this.proximaCita = proximaCita; }
+
+    /** @param historial Últimas citas pasadas */
+    public void setHistorial(List<CitaDTO> historial) { this.historial = historial; }
+
+    /** @param citas Todas las citas del usuario */
+    public void setCitas(List<CitaDTO> citas) { this.citas = citas; }
+}
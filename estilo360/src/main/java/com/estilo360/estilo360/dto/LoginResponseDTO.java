@@ -6,26 +6,81 @@ package com.estilo360.estilo360.dto;
  * Contiene el token JWT generado tras la autenticación exitosa de un usuario,
  * que será utilizado para acceder a los endpoints protegidos del sistema.
  * 
+ * Incluye también los datos básicos del usuario y la caducidad del token,
+ * para que el cliente no tenga que decodificar el token ni pedir el usuario
+ * en otra llamada.
+ * 
  * Este DTO se devuelve al cliente después de un login exitoso.
  * 
- * @version 1.0
+ * @version 1.1
  */
 public class LoginResponseDTO {
 
     /** Token JWT generado tras la autenticación */
     private String token;
 
+    /** Identificador del usuario autenticado */
+    private Long id_usuario;
+
+    /** Nombre completo del usuario */
+    private String nombre_completo;
+
+    /** Correo electrónico del usuario */
+    private String correo;
+
+    /** Rol del usuario */
+    private String rol;
+
+    /** Caducidad del token, en milisegundos desde epoch */
+    private Long expira;
+
     /**
-     * Constructor que inicializa el DTO con el token.
+     * Constructor que inicializa el DTO con el token y los datos del usuario.
      * 
      * @param token Token JWT del usuario autenticado
+     * @param id_usuario Identificador del usuario
+     * @param nombre_completo Nombre completo del usuario
+     * @param correo Correo electrónico del usuario
+     * @param rol Rol del usuario
+     * @param expira Caducidad del token, en milisegundos desde epoch
      */
-    public LoginResponseDTO(String token) {
+    public LoginResponseDTO(String token, Long id_usuario, String nombre_completo,
+                            String correo, String rol, Long expira) {
         this.token = token;
+        this.id_usuario = id_usuario;
+        this.nombre_completo = nombre_completo;
+        this.correo = correo;
+        this.rol = rol;
+        this.expira = expira;
     }
 
     /** @return Token JWT del usuario */
     public String getToken() {
         return token;
     }
+
+    /** @return Identificador del usuario */
+    public Long getId_usuario() {
+        return id_usuario;
+    }
+
+    /** @return Nombre completo del usuario */
+    public String getNombre_completo() {
+        return nombre_completo;
+    }
+
+    /** @return Correo electrónico del usuario */
+    public String getCorreo() {
+        return correo;
+    }
+
+    /** @return Rol del usuario */
+    public String getRol() {
+        return rol;
+    }
+
+    /** @return Caducidad del token, en milisegundos desde epoch */
+    public Long getExpira() {
+        return expira;
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.estilo360.estilo360.entidades;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 /**
@@ -11,11 +12,14 @@ import java.time.LocalTime;
  * Cada cita está asociada a un usuario, un empleado y un servicio, y contiene
  * información sobre la fecha, hora, estado y observaciones adicionales.
  * 
- * Estados posibles: "pendiente", "confirmada", "cancelada".
+ * Estados posibles: ver {@link EstadoCita}. El estado se guarda como {@code smallint};
+ * las citas pendientes o confirmadas ya pasadas se marcan como completadas
+ * periódicamente.
  * 
- * Esta entidad se mapea a la tabla "citas" de la base de datos.
+ * Esta entidad se mapea a la tabla "citas" de la base de datos. Sus índices y
+ * restricciones se definen en las migraciones de Flyway (db/migration).
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Entity
 @Table(name = "citas")
@@ -51,14 +55,18 @@ public class Cita {
     @NotNull
     private LocalTime hora;
 
-    /** Estado de la cita: pendiente, confirmada o cancelada */
+    /** Estado de la cita */
     @Column(nullable = false)
-    private String estado;
+    private EstadoCita estado;
 
     /** Observaciones adicionales sobre la cita */
     @Column(length = 255)
     private String observaciones;
 
+    /** Momento en que se envió el recordatorio de la cita (null si aún no se ha enviado) */
+    @Column(name = "recordatorio_enviado_en")
+    private LocalDateTime recordatorioEnviadoEn;
+
     /**
      * Constructor vacío requerido por JPA.
      */
@@ -76,7 +84,7 @@ public class Cita {
      * @param observaciones Observaciones adicionales
      */
     public Cita(Usuario usuario, Empleado empleado, Servicio servicio,
-                LocalDate fecha, LocalTime hora, String estado, String observaciones) {
+                LocalDate fecha, LocalTime hora, EstadoCita estado, String observaciones) {
         this.usuario = usuario;
         this.empleado = empleado;
         this.servicio = servicio;
@@ -105,11 +113,14 @@ public class Cita {
     public LocalTime getHora() { return hora; }
 
     /** @return Estado de la cita */
-    public String getEstado() { return estado; }
+    public EstadoCita getEstado() { return estado; }
 
     /** @return Observaciones de la cita */
     public String getObservaciones() { return observaciones; }
 
+    /** @return Momento de envío del recordatorio, o null si no se ha enviado */
+    public LocalDateTime getRecordatorioEnviadoEn() { return recordatorioEnviadoEn; }
+
     /** @param usuario Establece el usuario de la cita */
     public void setUsuario(Usuario usuario) { this.usuario = usuario; }
 
@@ -126,8 +137,11 @@ public class Cita {
     public void setHora(LocalTime hora) { this.hora = hora; }
 
     /** @param estado Establece el estado de la cita */
-    public void setEstado(String estado) { this.estado = estado; }
+    public void setEstado(EstadoCita estado) { this.estado = estado; }
 
     /** @param observaciones Establece las observaciones de la cita */
     public void setObservaciones(String observaciones) { this.observaciones = observaciones; }
+
+    /** @param recordatorioEnviadoEn Establece el momento de envío del recordatorio */
+    public void setRecordatorioEnviadoEn(LocalDateTime recordatorioEnviadoEn) { this.recordatorioEnviadoEn = recordatorioEnviadoEn; }
 }
@@ -2,6 +2,8 @@ package com.estilo360.estilo360.entidades;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,9 +11,15 @@ import java.util.List;
  * Entidad que representa a un empleado en el sistema.
  * 
  * Cada empleado puede atender múltiples citas y recibir varias reseñas.
+ * 
+ * Los empleados cambian muy poco y se leen en casi cada petición, por eso se
+ * guardan en la caché de segundo nivel de Hibernate (región
+ * "estilo360.empleados", configurada en application.conf).
  */
 @Entity
 @Table(name = "empleados")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "estilo360.empleados")
 public class Empleado {
 
     /** Identificador único del empleado */
@@ -0,0 +1,81 @@
+package com.estilo360.estilo360.entidades;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Estados posibles de una cita.
+ *
+ * En la base de datos se guarda el código numérico ({@code smallint}), y en la
+ * API el valor en minúsculas ("pendiente", "confirmada", ...).
+ *
+ * @version 1.0
+ */
+public enum EstadoCita {
+
+    /** Cita reservada pendiente de confirmar */
+    PENDIENTE((short) 0, "pendiente"),
+
+    /** Cita confirmada */
+    CONFIRMADA((short) 1, "confirmada"),
+
+    /** Cita cancelada por el cliente o el salón */
+    CANCELADA((short) 2, "cancelada"),
+
+    /** Cita cuya fecha ya ha pasado */
+    COMPLETADA((short) 3, "completada");
+
+    /** Estados de las citas vigentes: ni canceladas ni completadas */
+    public static final Set<EstadoCita> ACTIVOS =
+            Collections.unmodifiableSet(EnumSet.of(PENDIENTE, CONFIRMADA));
+
+    /** Código almacenado en la base de datos */
+    private final short codigo;
+
+    /** Valor expuesto en la API */
+    private final String valor;
+
+    EstadoCita(short codigo, String valor) {
+        this.codigo = codigo;
+        this.valor = valor;
+    }
+
+    /** @return Código almacenado en la base de datos */
+    public short getCodigo() { return codigo; }
+
+    /** @return Valor expuesto en la API */
+    public String getValor() { return valor; }
+
+    /**
+     * Obtiene el estado correspondiente a un código de la base de datos.
+     *
+     * @param codigo Código del estado
+     * @return Estado de la cita
+     * @throws IllegalArgumentException si el código no existe
+     */
+    public static EstadoCita desdeCodigo(short codigo) {
+        for (EstadoCita estado : values()) {
+            if (estado.codigo == codigo) {
+                return estado;
+            }
+        }
+        throw new IllegalArgumentException("Código de estado de cita no válido: " + codigo);
+    }
+
+    /**
+     * Obtiene el estado correspondiente a un valor de la API (sin distinguir mayúsculas).
+     *
+     * @param valor Valor del estado
+     * @return Estado de la cita
+     * @throws RuntimeException si el valor no corresponde a ningún estado
+     */
+    public static EstadoCita desdeValor(String valor) {
+        for (EstadoCita estado : values()) {
+            if (estado.valor.equalsIgnoreCase(valor)) {
+                return estado;
+            }
+        }
+        throw new RuntimeException("Estado de cita no válido: " + valor);
+    }
+}
@@ -0,0 +1,23 @@
+package com.estilo360.estilo360.entidades;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversor JPA entre {@link EstadoCita} y su código {@code smallint}.
+ *
+ * @version 1.0
+ */
+@Converter(autoApply = true)
+public class EstadoCitaConverter implements AttributeConverter<EstadoCita, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(EstadoCita estado) {
+        return estado != null ? estado.getCodigo() : null;
+    }
+
+    @Override
+    public EstadoCita convertToEntityAttribute(Short codigo) {
+        return codigo != null ? EstadoCita.desdeCodigo(codigo) : null;
+    }
+}
@@ -2,6 +2,8 @@ package com.estilo360.estilo360.entidades;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,10 +12,16 @@ import java.util.List;
  * Cada servicio tiene un nombre, descripción, precio y duración,
  * y puede estar asociado a múltiples citas.
  * 
- * @version 1.0
+ * Los servicios cambian muy poco y se leen en casi cada petición, por eso se
+ * guardan en la caché de segundo nivel de Hibernate (región
+ * "estilo360.servicios", configurada en application.conf).
+ * 
+ * @version 1.1
  */
 @Entity
 @Table(name = "servicios")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "estilo360.servicios")
 public class Servicio {
     
     /** Identificador único del servicio */
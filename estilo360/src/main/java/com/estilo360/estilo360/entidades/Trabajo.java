@@ -0,0 +1,109 @@
+package com.estilo360.estilo360.entidades;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa un trabajo en segundo plano persistido en la base de datos.
+ *
+ * Los trabajos se encolan con un tipo y unos datos en JSON, y los reclaman los
+ * workers de cualquier nodo de la API. Mientras un worker procesa un trabajo,
+ * este queda bloqueado hasta {@code bloqueadoHasta}; si el worker cae, el bloqueo
+ * caduca y otro nodo puede volver a reclamarlo.
+ */
+@Entity
+@Table(name = "trabajos")
+public class Trabajo {
+
+    /** Trabajo a la espera de ser reclamado */
+    public static final String PENDIENTE = "pendiente";
+
+    /** Trabajo reclamado por un worker */
+    public static final String EN_PROCESO = "en_proceso";
+
+    /** Trabajo que agotó sus reintentos */
+    public static final String FALLIDO = "fallido";
+
+    /** Identificador único del trabajo */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idTrabajo;
+
+    /** Tipo del trabajo, determina el manejador que lo ejecuta */
+    @Column(nullable = false, length = 50)
+    private String tipo;
+
+    /** Datos del trabajo en formato JSON */
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    /** Estado del trabajo: pendiente, en_proceso o fallido */
+    @Column(nullable = false, length = 20)
+    private String estado;
+
+    /** Número de veces que se ha reclamado el trabajo */
+    @Column(nullable = false)
+    private int intentos;
+
+    /** Número máximo de intentos antes de darlo por fallido */
+    @Column(name = "max_intentos", nullable = false)
+    private int maxIntentos;
+
+    /** Momento a partir del cual el trabajo puede reclamarse */
+    @Column(name = "disponible_en", nullable = false)
+    private LocalDateTime disponibleEn;
+
+    /** Fin del bloqueo del worker que lo procesa (visibility timeout) */
+    @Column(name = "bloqueado_hasta")
+    private LocalDateTime bloqueadoHasta;
+
+    /** Nodo que tiene reclamado el trabajo */
+    @Column(name = "bloqueado_por", length = 100)
+    private String bloqueadoPor;
+
+    /** Mensaje del último error producido */
+    @Column(name = "ultimo_error", length = 1000)
+    private String ultimoError;
+
+    /** Fecha de creación del trabajo */
+    @Column(name = "creado_en", nullable = false)
+    private LocalDateTime creadoEn;
+
+    /** Constructor vacío requerido por JPA */
+    public Trabajo() {}
+
+    /** Constructor con los datos necesarios para encolar un trabajo */
+    public Trabajo(String tipo, String payload, int maxIntentos, LocalDateTime disponibleEn) {
+        this.tipo = tipo;
+        this.payload = payload;
+        this.estado = PENDIENTE;
+        this.intentos = 0;
+        this.maxIntentos = maxIntentos;
+        this.disponibleEn = disponibleEn;
+        this.creadoEn = LocalDateTime.now();
+    }
+
+    // Getters y Setters
+    public Long getId_trabajo() { return idTrabajo; }
+    public void setId_trabajo(Long id_trabajo) { this.idTrabajo = id_trabajo; }
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    public String getEstado() { return estado; }
+    public void setEstado(String estado) { this.estado = estado; }
+    public int getIntentos() { return intentos; }
+    public void setIntentos(int intentos) { this.intentos = intentos; }
+    public int getMaxIntentos() { return maxIntentos; }
+    public void setMaxIntentos(int maxIntentos) { this.maxIntentos = maxIntentos; }
+    public LocalDateTime getDisponibleEn() { return disponibleEn; }
+    public void setDisponibleEn(LocalDateTime disponibleEn) { this.disponibleEn = disponibleEn; }
+    public LocalDateTime getBloqueadoHasta() { return bloqueadoHasta; }
+    public void setBloqueadoHasta(LocalDateTime bloqueadoHasta) { this.bloqueadoHasta = bloqueadoHasta; }
+    public String getBloqueadoPor() { return bloqueadoPor; }
+    public void setBloqueadoPor(String bloqueadoPor) { this.bloqueadoPor = bloqueadoPor; }
+    public String getUltimoError() { return ultimoError; }
+    public void setUltimoError(String ultimoError) { this.ultimoError = ultimoError; }
+    public LocalDateTime getCreadoEn() { return creadoEn; }
+    public void setCreadoEn(LocalDateTime creadoEn) { this.creadoEn = creadoEn; }
+}
@@ -0,0 +1,126 @@
+package com.estilo360.estilo360.generador;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Carga de filas en una tabla mediante {@code COPY ... FROM STDIN} de Postgres.
+ *
+ * Las filas se acumulan en formato CSV y se envían en bloques de
+ * {@code tamanoBloque} filas, cada uno con su propio COPY. Cada instancia usa
+ * una única conexión y no es segura entre hilos: cada hilo del generador crea
+ * las suyas.
+ *
+ * @version 1.0
+ */
+class CopiaPostgres implements AutoCloseable {
+
+    /** Gestor de COPY de la conexión */
+    private final CopyManager copyManager;
+
+    /** Sentencia COPY de la tabla */
+    private final String sql;
+
+    /** Filas por bloque */
+    private final int tamanoBloque;
+
+    /** Filas pendientes de enviar */
+    private final StringBuilder buffer = new StringBuilder(1 << 20);
+
+    /** Número de filas en el buffer */
+    private int pendientes;
+
+    /** Total de filas enviadas */
+    private long enviadas;
+
+    /** Columnas añadidas a la fila actual */
+    private int columnas;
+
+    /**
+     * Crea la carga de una tabla.
+     *
+     * @param conexion Conexión a Postgres (con autocommit)
+     * @param tabla Nombre de la tabla
+     * @param columnas Columnas en el orden en que se añaden los valores
+     * @param tamanoBloque Filas por bloque
+     * @throws SQLException si la conexión no es de Postgres
+     */
+    CopiaPostgres(Connection conexion, String tabla, String columnas, int tamanoBloque) throws SQLException {
+        this.copyManager = conexion.unwrap(PGConnection.class).getCopyAPI();
+        this.sql = "COPY " + tabla + " (" + columnas + ") FROM STDIN WITH (FORMAT csv)";
+        this.tamanoBloque = tamanoBloque;
+    }
+
+    /**
+     * Añade un valor a la fila actual. Un valor null se carga como NULL.
+     *
+     * @param valor Valor de la columna
+     * @return Esta carga, para encadenar valores
+     */
+    CopiaPostgres valor(Object valor) {
+        if (columnas++ > 0) {
+            buffer.append(',');
+        }
+        if (valor instanceof String texto) {
+            buffer.append('"').append(texto.replace("\"", "\"\"")).append('"');
+        } else if (valor != null) {
+            buffer.append(valor);
+        }
+        return this;
+    }
+
+    /**
+     * Termina la fila actual y envía el bloque si está completo.
+     *
+     * @throws SQLException si falla el COPY
+     */
+    void fila() throws SQLException {
+        buffer.append('\n');
+        columnas = 0;
+        if (++pendientes >= tamanoBloque) {
+            enviar();
+        }
+    }
+
+    /**
+     * Envía las filas pendientes.
+     *
+     * @throws SQLException si falla el COPY
+     */
+    void enviar() throws SQLException {
+        if (pendientes == 0) {
+            return;
+        }
+        try {
+            enviadas += copyManager.copyIn(sql, new StringReader(buffer.toString()));
+        } catch (IOException e) {
+            throw new SQLException("Error al enviar el bloque de COPY", e);
+        }
+        buffer.setLength(0);
+        pendientes = 0;
+    }
+
+    /**
+     * Devuelve el total de filas cargadas.
+     *
+     * @return Filas enviadas
+     */
+    long getEnviadas() {
+        return enviadas;
+    }
+
+    /**
+     * Envía las filas pendientes.
+     *
+     * @throws SQLException si falla el COPY
+     */
+    @Override
+    public void close() throws SQLException {
+        enviar();
+    }
+}
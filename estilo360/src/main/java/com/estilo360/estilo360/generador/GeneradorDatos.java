@@ -0,0 +1,558 @@
+package com.estilo360.estilo360.generador;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.estilo360.estilo360.entidades.EstadoCita;
+
+/**
+ * Generador de un conjunto de datos sintético de gran volumen.
+ *
+ * Se ejecuta al arrancar la API con el perfil {@code generador} y carga
+ * servicios, empleados, usuarios, citas y reseñas con {@code COPY}, en
+ * paralelo, sobre los datos que ya existan (los identificadores continúan a
+ * partir del máximo actual). Las distribuciones intentan parecerse a las de un
+ * salón real:
+ * <ul>
+ *   <li>Citas por empleado y día según una Poisson cuya media depende del día
+ *       de la semana (domingo cerrado, sábado el día más fuerte), del mes
+ *       (pico en diciembre, valle en agosto) y de la demanda del empleado,
+ *       limitadas a los huecos de 30 minutos entre las 9:00 y las 20:00.</li>
+ *   <li>Pocos clientes concentran muchas citas y la mayoría reserva pocas veces.</li>
+ *   <li>Las citas pasadas están completadas o canceladas; las futuras
+ *       pendientes, confirmadas o canceladas.</li>
+ *   <li>Una parte de las citas completadas tiene reseña, con puntuaciones
+ *       sesgadas hacia las notas altas.</li>
+ * </ul>
+ *
+ * Todos los usuarios generados tienen la misma contraseña
+ * ({@code app.generador.contrasena}) y el correo según
+ * {@code app.generador.patron-correo} aplicado a su identificador, para poder
+ * usarlos en la prueba de carga. Como los identificadores continúan a partir de
+ * los existentes, el primero se muestra en el log al terminar la carga de usuarios.
+ * Las citas se cargan con el recordatorio ya marcado como enviado, para que la
+ * API no envíe correos a direcciones inexistentes. Con la misma semilla y sobre
+ * una base de datos vacía el resultado es siempre el mismo, independientemente
+ * del número de hilos.
+ *
+ * @version 1.1
+ */
+@Component
+@Profile("generador")
+public class GeneradorDatos implements CommandLineRunner {
+
+    /** Primer hueco del día */
+    private static final LocalTime APERTURA = LocalTime.of(9, 0);
+
+    /** Huecos de 30 minutos entre las 9:00 y las 20:00 */
+    private static final int HUECOS = 23;
+
+    /** Factor de demanda por día de la semana (lunes a domingo) */
+    private static final double[] FACTOR_DIA = {0.7, 0.9, 0.95, 1.05, 1.35, 1.6, 0.0};
+
+    /** Factor de demanda por mes (enero a diciembre) */
+    private static final double[] FACTOR_MES = {0.85, 0.85, 0.95, 1.0, 1.05, 1.15, 1.0, 0.7, 1.0, 1.0, 1.05, 1.4};
+
+    /** Probabilidad acumulada de las puntuaciones 5, 4, 3, 2 y 1 */
+    private static final double[] PUNTUACIONES = {0.55, 0.83, 0.93, 0.97, 1.0};
+
+    private static final String[] NOMBRES = {
+        "María", "Lucía", "Paula", "Laura", "Carmen", "Ana", "Marta", "Sara", "Elena", "Claudia",
+        "Alejandro", "Daniel", "Pablo", "David", "Javier", "Sergio", "Carlos", "Jorge", "Adrián", "Hugo"
+    };
+
+    private static final String[] APELLIDOS = {
+        "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Sánchez", "Pérez",
+        "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez", "Romero"
+    };
+
+    private static final String[] ESPECIALIDADES = {
+        "Peluquería", "Barbería", "Coloración", "Estética", "Manicura y pedicura"
+    };
+
+    /** Servicios base: nombre, precio y duración en minutos */
+    private static final Object[][] SERVICIOS = {
+        {"Corte de pelo", 18.0, 30}, {"Corte y peinado", 28.0, 60}, {"Corte de caballero", 14.0, 30},
+        {"Arreglo de barba", 10.0, 30}, {"Tinte", 45.0, 90}, {"Mechas", 65.0, 120},
+        {"Peinado", 20.0, 30}, {"Recogido", 35.0, 60}, {"Tratamiento de keratina", 80.0, 120},
+        {"Manicura", 15.0, 30}, {"Pedicura", 22.0, 60}, {"Limpieza facial", 40.0, 60}
+    };
+
+    private static final String[] VARIANTES = {"", " premium", " exprés"};
+
+    private static final String[] OBSERVACIONES = {
+        "Primera visita", "Prefiere que la atienda la misma persona", "Llegará unos minutos tarde",
+        "Alergia a algunos productos", "Viene con un acompañante"
+    };
+
+    private static final String[] COMENTARIOS = {
+        "Muy buen trato, repetiré", "Todo perfecto", "Buen resultado pero tuve que esperar",
+        "Muy profesional", "No quedé del todo contenta con el resultado", "Excelente, como siempre"
+    };
+
+    /** Datasource de la aplicación, una conexión por tarea de carga */
+    private final DataSource dataSource;
+
+    /** Acceso JDBC para las consultas auxiliares */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Codificador para la contraseña común de los usuarios */
+    private final BCryptPasswordEncoder passwordEncoder;
+
+    @Value("${app.generador.usuarios:1000000}")
+    private int usuarios;
+
+    @Value("${app.generador.empleados:120}")
+    private int empleados;
+
+    @Value("${app.generador.servicios:25}")
+    private int servicios;
+
+    /** Días de historial de citas antes de hoy */
+    @Value("${app.generador.dias-historico:1095}")
+    private int diasHistorico;
+
+    /** Días de citas futuras a partir de hoy */
+    @Value("${app.generador.dias-futuro:60}")
+    private int diasFuturo;
+
+    /** Media de citas por empleado en un día de demanda normal */
+    @Value("${app.generador.citas-por-dia:8}")
+    private double citasPorDia;
+
+    @Value("${app.generador.tasa-cancelacion:0.09}")
+    private double tasaCancelacion;
+
+    /** Fracción de las citas futuras ya confirmadas */
+    @Value("${app.generador.tasa-confirmacion:0.45}")
+    private double tasaConfirmacion;
+
+    /** Fracción de las citas completadas con reseña */
+    @Value("${app.generador.tasa-resenas:0.25}")
+    private double tasaResenas;
+
+    @Value("${app.generador.hilos:8}")
+    private int hilos;
+
+    /** Filas por cada COPY */
+    @Value("${app.generador.tamano-bloque:50000}")
+    private int tamanoBloque;
+
+    @Value("${app.generador.semilla:360}")
+    private long semilla;
+
+    @Value("${app.generador.contrasena:Estilo360!}")
+    private String contrasena;
+
+    @Value("${app.generador.patron-correo:usuario%d@estilo360.test}")
+    private String patronCorreo;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(GeneradorDatos.class);
+
+    /**
+     * Constructor que inyecta el datasource, JdbcTemplate y el codificador de contraseñas.
+     *
+     * @param dataSource Datasource de la aplicación
+     * @param jdbcTemplate Acceso JDBC
+     * @param passwordEncoder Codificador de contraseñas
+     */
+    public GeneradorDatos(DataSource dataSource, JdbcTemplate jdbcTemplate, BCryptPasswordEncoder passwordEncoder) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Genera y carga todos los datos.
+     *
+     * @param args Argumentos de la línea de comandos (no se usan)
+     */
+    @Override
+    public void run(String... args) {
+        long inicio = System.nanoTime();
+        long primerServicio = siguienteId("servicios", "id_servicio");
+        long primerEmpleado = siguienteId("empleados", "id_empleado");
+        long primerUsuario = siguienteId("usuarios", "id_usuario");
+
+        log.info("Generando {} usuarios, {} empleados y {} servicios con {} días de citas ({} hilos)",
+                usuarios, empleados, servicios, diasHistorico + diasFuturo, hilos);
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            cargarServicios(primerServicio);
+            cargarEmpleados(primerEmpleado);
+            long filasUsuarios = cargarUsuarios(ejecutor, primerUsuario);
+            long[] filasCitas = cargarCitas(ejecutor, primerServicio, primerEmpleado, primerUsuario);
+            ajustarSecuencias();
+
+            double minutos = (System.nanoTime() - inicio) / 60e9;
+            long total = servicios + empleados + filasUsuarios + filasCitas[0] + filasCitas[1];
+            log.info("Datos generados: {} usuarios, {} citas y {} reseñas en {} s ({} filas/min)",
+                    filasUsuarios, filasCitas[0], filasCitas[1],
+                    Math.round(minutos * 60), Math.round(total / minutos));
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Carga los servicios, combinando los servicios base con sus variantes.
+     *
+     * @param primerId Identificador del primer servicio
+     */
+    private void cargarServicios(long primerId) {
+        try (Connection c = dataSource.getConnection();
+             CopiaPostgres copia = new CopiaPostgres(c, "servicios",
+                     "id_servicio, nombre, descripcion, precio, duracion_minutos", tamanoBloque)) {
+            for (int i = 0; i < servicios; i++) {
+                Object[] base = SERVICIOS[i % SERVICIOS.length];
+                int variante = (i / SERVICIOS.length) % VARIANTES.length;
+                double precio = (Double) base[1] * (1 + 0.3 * variante);
+                copia.valor(primerId + i)
+                     .valor(base[0] + VARIANTES[variante])
+                     .valor("Servicio de " + base[0].toString().toLowerCase() + VARIANTES[variante])
+                     .valor(Math.round(precio * 100) / 100.0)
+                     .valor(base[2])
+                     .fila();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error al generar los servicios", e);
+        }
+    }
+
+    /**
+     * Carga los empleados.
+     *
+     * @param primerId Identificador del primer empleado
+     */
+    private void cargarEmpleados(long primerId) {
+        SplittableRandom random = new SplittableRandom(semilla);
+        try (Connection c = dataSource.getConnection();
+             CopiaPostgres copia = new CopiaPostgres(c, "empleados",
+                     "id_empleado, nombre_completo, especialidad, correo, movil", tamanoBloque)) {
+            for (int i = 0; i < empleados; i++) {
+                long id = primerId + i;
+                copia.valor(id)
+                     .valor(nombre(random))
+                     .valor(ESPECIALIDADES[random.nextInt(ESPECIALIDADES.length)])
+                     .valor("empleado" + id + "@estilo360.test")
+                     .valor(movil(random))
+                     .fila();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error al generar los empleados", e);
+        }
+    }
+
+    /**
+     * Carga los usuarios en bloques paralelos. Todos son clientes verificados
+     * con la misma contraseña, codificada una sola vez.
+     *
+     * @param ejecutor Ejecutor de las tareas de carga
+     * @param primerId Identificador del primer usuario
+     * @return Usuarios cargados
+     */
+    private long cargarUsuarios(ExecutorService ejecutor, long primerId) {
+        String hash = passwordEncoder.encode(contrasena);
+        List<Future<Long>> tareas = new ArrayList<>();
+
+        for (int desde = 0; desde < usuarios; desde += tamanoBloque) {
+            int bloque = desde;
+            int hasta = Math.min(usuarios, desde + tamanoBloque);
+            tareas.add(ejecutor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(semilla + bloque);
+                try (Connection c = dataSource.getConnection();
+                     CopiaPostgres copia = new CopiaPostgres(c, "usuarios",
+                             "id_usuario, nombre_completo, correo, movil, rol, contrasena, email_verificado",
+                             tamanoBloque)) {
+                    for (int i = bloque; i < hasta; i++) {
+                        long id = primerId + i;
+                        copia.valor(id)
+                             .valor(nombre(random))
+                             .valor(String.format(patronCorreo, id))
+                             .valor(movil(random))
+                             .valor("cliente")
+                             .valor(hash)
+                             .valor(true)
+                             .fila();
+                    }
+                    copia.enviar();
+                    return copia.getEnviadas();
+                }
+            }));
+        }
+
+        long cargados = esperar(tareas, "usuarios");
+        // Los correos usan el identificador: sobre una base de datos con usuarios no empiezan en 1
+        log.info("Usuarios cargados: {} ({} a {}). Para la prueba de carga: usuarios.primero={} usuarios.total={}",
+                cargados, String.format(patronCorreo, primerId), String.format(patronCorreo, primerId + usuarios - 1),
+                primerId, usuarios);
+        return cargados;
+    }
+
+    /**
+     * Carga las citas y reseñas con una tarea por empleado. Cada empleado
+     * tiene su propia semilla, de modo que el resultado no depende del
+     * reparto entre hilos.
+     *
+     * @param ejecutor Ejecutor de las tareas de carga
+     * @param primerServicio Identificador del primer servicio
+     * @param primerEmpleado Identificador del primer empleado
+     * @param primerUsuario Identificador del primer usuario
+     * @return Citas y reseñas cargadas
+     */
+    private long[] cargarCitas(ExecutorService ejecutor, long primerServicio, long primerEmpleado, long primerUsuario) {
+        LocalDateTime ahora = LocalDateTime.now();
+        AtomicLong resenas = new AtomicLong();
+        AtomicInteger terminados = new AtomicInteger();
+        List<Future<Long>> tareas = new ArrayList<>();
+
+        for (int e = 0; e < empleados; e++) {
+            long idEmpleado = primerEmpleado + e;
+            long semillaEmpleado = semilla * 31 + e;
+            tareas.add(ejecutor.submit(() -> {
+                long[] filas = cargarCitasEmpleado(idEmpleado, semillaEmpleado, ahora, primerServicio, primerUsuario);
+                resenas.addAndGet(filas[1]);
+                int n = terminados.incrementAndGet();
+                if (n % 10 == 0 || n == empleados) {
+                    log.info("Citas generadas para {}/{} empleados", n, empleados);
+                }
+                return filas[0];
+            }));
+        }
+
+        long citas = esperar(tareas, "citas");
+        return new long[] {citas, resenas.get()};
+    }
+
+    /**
+     * Genera las citas y reseñas de un empleado día a día.
+     *
+     * @param idEmpleado Identificador del empleado
+     * @param semillaEmpleado Semilla del empleado
+     * @param ahora Momento que separa las citas pasadas de las futuras
+     * @param primerServicio Identificador del primer servicio
+     * @param primerUsuario Identificador del primer usuario
+     * @return Citas y reseñas cargadas
+     * @throws SQLException si falla la carga
+     */
+    private long[] cargarCitasEmpleado(long idEmpleado, long semillaEmpleado, LocalDateTime ahora,
+                                       long primerServicio, long primerUsuario) throws SQLException {
+        SplittableRandom random = new SplittableRandom(semillaEmpleado);
+        // Demanda propia del empleado: entre 0,6 y 1,4 veces la media
+        double demanda = 0.6 + 0.8 * random.nextDouble();
+        int[] huecos = new int[HUECOS];
+        LocalDate hoy = ahora.toLocalDate();
+
+        try (Connection c = dataSource.getConnection();
+             CopiaPostgres citas = new CopiaPostgres(c, "citas",
+                     "usuario_id, empleado_id, servicio_id, fecha, hora, estado, observaciones, recordatorio_enviado_en",
+                     tamanoBloque);
+             CopiaPostgres resenas = new CopiaPostgres(c, "resenas",
+                     "usuario_id, empleado_id, puntuacion, comentario, fecha", tamanoBloque)) {
+
+            for (LocalDate dia = hoy.minusDays(diasHistorico); !dia.isAfter(hoy.plusDays(diasFuturo)); dia = dia.plusDays(1)) {
+                double media = citasPorDia * demanda
+                        * FACTOR_DIA[dia.getDayOfWeek().getValue() - 1]
+                        * FACTOR_MES[dia.getMonthValue() - 1];
+                int n = Math.min(poisson(random, media), HUECOS);
+
+                // Elige n huecos distintos con un Fisher-Yates parcial
+                for (int i = 0; i < HUECOS; i++) {
+                    huecos[i] = i;
+                }
+                for (int i = 0; i < n; i++) {
+                    int j = i + random.nextInt(HUECOS - i);
+                    int hueco = huecos[j];
+                    huecos[j] = huecos[i];
+                    huecos[i] = hueco;
+
+                    LocalTime hora = APERTURA.plusMinutes(30L * hueco);
+                    long idUsuario = primerUsuario + sesgado(random, usuarios, 1.5);
+                    boolean pasada = LocalDateTime.of(dia, hora).isBefore(ahora);
+                    EstadoCita estado = estado(random, pasada);
+
+                    citas.valor(idUsuario)
+                         .valor(idEmpleado)
+                         .valor(primerServicio + sesgado(random, servicios, 1.8))
+                         .valor(dia)
+                         .valor(hora)
+                         .valor(estado.getCodigo())
+                         .valor(random.nextDouble() < 0.1 ? OBSERVACIONES[random.nextInt(OBSERVACIONES.length)] : null)
+                         .valor(ahora)
+                         .fila();
+
+                    if (estado == EstadoCita.COMPLETADA && random.nextDouble() < tasaResenas) {
+                        LocalDate fecha = dia.plusDays(random.nextInt(4));
+                        resenas.valor(idUsuario)
+                               .valor(idEmpleado)
+                               .valor(puntuacion(random))
+                               .valor(random.nextDouble() < 0.6 ? COMENTARIOS[random.nextInt(COMENTARIOS.length)] : null)
+                               .valor(fecha.isAfter(hoy) ? hoy : fecha)
+                               .fila();
+                    }
+                }
+            }
+
+            citas.enviar();
+            resenas.enviar();
+            return new long[] {citas.getEnviadas(), resenas.getEnviadas()};
+        }
+    }
+
+    /**
+     * Elige el estado de una cita según sea pasada o futura.
+     *
+     * @param random Generador aleatorio
+     * @param pasada true si la cita ya ha pasado
+     * @return Estado de la cita
+     */
+    private EstadoCita estado(SplittableRandom random, boolean pasada) {
+        double r = random.nextDouble();
+        if (pasada) {
+            return r < tasaCancelacion ? EstadoCita.CANCELADA : EstadoCita.COMPLETADA;
+        }
+        // Las citas futuras aún no han tenido tiempo de cancelarse todas
+        double cancelacion = tasaCancelacion * 0.6;
+        if (r < cancelacion) {
+            return EstadoCita.CANCELADA;
+        }
+        return r < cancelacion + tasaConfirmacion ? EstadoCita.CONFIRMADA : EstadoCita.PENDIENTE;
+    }
+
+    /**
+     * Elige una puntuación de reseña, sesgada hacia las notas altas.
+     *
+     * @param random Generador aleatorio
+     * @return Puntuación de 1 a 5
+     */
+    private static int puntuacion(SplittableRandom random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < PUNTUACIONES.length; i++) {
+            if (r < PUNTUACIONES[i]) {
+                return 5 - i;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Elige un índice entre 0 y n-1 con más probabilidad para los primeros,
+     * de modo que pocos elementos concentran gran parte de las elecciones.
+     *
+     * @param random Generador aleatorio
+     * @param n Número de elementos
+     * @param sesgo Exponente del sesgo (1 = uniforme)
+     * @return Índice elegido
+     */
+    private static long sesgado(SplittableRandom random, int n, double sesgo) {
+        return Math.min(n - 1, (long) (n * Math.pow(random.nextDouble(), sesgo)));
+    }
+
+    /**
+     * Genera un valor de una distribución de Poisson (método de Knuth,
+     * adecuado para medias pequeñas).
+     *
+     * @param random Generador aleatorio
+     * @param media Media de la distribución
+     * @return Valor generado
+     */
+    private static int poisson(SplittableRandom random, double media) {
+        if (media <= 0) {
+            return 0;
+        }
+        double limite = Math.exp(-media);
+        double producto = random.nextDouble();
+        int k = 0;
+        while (producto > limite) {
+            k++;
+            producto *= random.nextDouble();
+        }
+        return k;
+    }
+
+    private static String nombre(SplittableRandom random) {
+        return NOMBRES[random.nextInt(NOMBRES.length)] + " "
+                + APELLIDOS[random.nextInt(APELLIDOS.length)] + " "
+                + APELLIDOS[random.nextInt(APELLIDOS.length)];
+    }
+
+    private static String movil(SplittableRandom random) {
+        return "6" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    /**
+     * Obtiene el siguiente identificador libre de una tabla.
+     *
+     * @param tabla Nombre de la tabla
+     * @param columna Columna del identificador
+     * @return Máximo identificador actual más uno
+     */
+    private long siguienteId(String tabla, String columna) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + columna + "), 0) FROM " + tabla, Long.class);
+        return max + 1;
+    }
+
+    /**
+     * Ajusta las secuencias de identidad a los identificadores cargados y
+     * actualiza las estadísticas del planificador.
+     */
+    private void ajustarSecuencias() {
+        String[][] tablas = {
+            {"servicios", "id_servicio"}, {"empleados", "id_empleado"}, {"usuarios", "id_usuario"},
+            {"citas", "id_cita"}, {"resenas", "id_resena"}
+        };
+        for (String[] t : tablas) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + t[0] + "', '" + t[1] + "'), "
+                    + "(SELECT COALESCE(MAX(" + t[1] + "), 1) FROM " + t[0] + "))", Long.class);
+        }
+        log.info("Actualizando estadísticas (ANALYZE)");
+        jdbcTemplate.execute("ANALYZE servicios, empleados, usuarios, citas, resenas");
+    }
+
+    /**
+     * Espera a que terminen las tareas de carga y suma sus filas.
+     *
+     * @param tareas Tareas lanzadas
+     * @param que Datos que se cargan, para el mensaje de error
+     * @return Filas cargadas
+     */
+    private static long esperar(List<Future<Long>> tareas, String que) {
+        long total = 0;
+        try {
+            for (Future<Long> tarea : tareas) {
+                total += tarea.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Carga de " + que + " interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error al generar " + que, e.getCause());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,53 @@
+package com.estilo360.estilo360.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Codificador BCrypt que mide el tiempo de cada codificación y comprobación.
+ *
+ * BCrypt es deliberadamente lento, por lo que es una de las partes más
+ * costosas del registro y del login; las métricas permiten ver su peso
+ * y ajustar el coste.
+ *
+ * @version 1.0
+ */
+public class BCryptPasswordEncoderMedido extends BCryptPasswordEncoder {
+
+    /** Tiempo de codificación de contraseñas */
+    private final Timer codificacion;
+
+    /** Tiempo de comprobación de contraseñas */
+    private final Timer comprobacion;
+
+    /**
+     * Constructor que registra los temporizadores.
+     *
+     * @param meterRegistry Registro de métricas de Micrometer
+     */
+    public BCryptPasswordEncoderMedido(MeterRegistry meterRegistry) {
+        this.codificacion = Timer.builder("estilo360.bcrypt")
+                .description("Tiempo de BCrypt")
+                .tag("operacion", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.comprobacion = Timer.builder("estilo360.bcrypt")
+                .description("Tiempo de BCrypt")
+                .tag("operacion", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return codificacion.record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean coincide = comprobacion.record(() -> super.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(coincide);
+    }
+}
@@ -10,12 +10,17 @@ import java.util.Date;
 
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * Utilidad para generar, validar y extraer información de tokens JWT.
  * Proporciona métodos para crear tokens firmados, extraer claims
  * y verificar la validez de los tokens.
+ * La generación y la verificación de firmas se miden con la métrica
+ * {@code estilo360.jwt}.
  * 
- * @version 1.0
+ * @version 1.2
  */
 @Component
 public class JwtUtil {
@@ -29,6 +34,30 @@ public class JwtUtil {
     /** Clave generada a partir del secreto para firmar los JWT */
     private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
+    /** Tiempo de generación de tokens */
+    private final Timer generacion;
+
+    /** Tiempo de verificación de tokens */
+    private final Timer verificacion;
+
+    /**
+     * Constructor que registra los temporizadores de JWT.
+     * 
+     * @param meterRegistry Registro de métricas de Micrometer
+     */
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.generacion = Timer.builder("estilo360.jwt")
+                .description("Tiempo de generación y verificación de JWT")
+                .tag("operacion", "generar")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.verificacion = Timer.builder("estilo360.jwt")
+                .description("Tiempo de generación y verificación de JWT")
+                .tag("operacion", "verificar")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
     /**
      * Genera un token JWT con el correo y rol del usuario.
      * 
@@ -37,13 +66,34 @@ public class JwtUtil {
      * @return Token JWT firmado como String
      */
     public String generarToken(String correo, String rol) {
-        return Jwts.builder()
+        return generarToken(correo, rol, calcularExpiracion());
+    }
+
+    /**
+     * Genera un token JWT con el correo y rol del usuario y una caducidad dada.
+     * 
+     * @param correo Correo del usuario (subject del token)
+     * @param rol Rol del usuario (claim "rol")
+     * @param expiracion Caducidad del token
+     * @return Token JWT firmado como String
+     */
+    public String generarToken(String correo, String rol, Date expiracion) {
+        return generacion.record(() -> Jwts.builder()
                 .setSubject(correo)
                 .claim("rol", rol)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .setExpiration(expiracion)
                 .signWith(key)
-                .compact();
+                .compact());
+    }
+
+    /**
+     * Calcula la caducidad de un token generado ahora.
+     * 
+     * @return Fecha de caducidad del token
+     */
+    public Date calcularExpiracion() {
+        return new Date(System.currentTimeMillis() + EXPIRATION);
     }
 
     /**
@@ -54,11 +104,11 @@ public class JwtUtil {
      * @throws JwtException Si el token no es válido o ha sido manipulado
      */
     public Claims extraerClaims(String token) {
-        return Jwts.parserBuilder()
+        return verificacion.record(() -> Jwts.parserBuilder()
                 .setSigningKey(key)
                 .build()
                 .parseClaimsJws(token)
-                .getBody();
+                .getBody());
     }
 
     /**
@@ -12,6 +12,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Configuración de seguridad de la aplicación.
  * Define los filtros de JWT, permisos de endpoints, gestión de sesiones
@@ -37,12 +39,14 @@ public class SecurityConfig {
 
     /**
      * Proporciona un codificador de contraseñas BCrypt para la autenticación.
+     * Mide el tiempo de cada operación (métrica {@code estilo360.bcrypt}).
      * 
+     * @param meterRegistry Registro de métricas de Micrometer
      * @return Instancia de BCryptPasswordEncoder
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BCryptPasswordEncoderMedido(meterRegistry);
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.estilo360.estilo360.services;
 
+import java.util.Date;
+
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -16,7 +18,7 @@ import org.slf4j.LoggerFactory;
  * Proporciona métodos para realizar login, validar credenciales
  * y generar tokens JWT para usuarios autenticados.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 public class AuthService {
@@ -25,7 +27,7 @@ public class AuthService {
     private final UsuarioDAO usuarioDAO;
 
     /** Codificador de contraseñas BCrypt */
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final BCryptPasswordEncoder passwordEncoder;
 
     /** Utilidad para generación y validación de tokens JWT */
     private JwtUtil jwtUtil;
@@ -34,15 +36,16 @@ public class AuthService {
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     /**
-     * Constructor que inyecta el DAO de usuarios y la utilidad JWT.
+     * Constructor que inyecta el DAO de usuarios, la utilidad JWT y el codificador de contraseñas.
      * 
      * @param usuarioDAO DAO para operaciones sobre usuarios
      * @param jwtUtil Utilidad para generación y validación de tokens JWT
+     * @param passwordEncoder Codificador de contraseñas BCrypt
      */
-    public AuthService(UsuarioDAO usuarioDAO, JwtUtil jwtUtil) {
+    public AuthService(UsuarioDAO usuarioDAO, JwtUtil jwtUtil, BCryptPasswordEncoder passwordEncoder) {
         this.usuarioDAO = usuarioDAO;
         this.jwtUtil = jwtUtil;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
@@ -51,7 +54,8 @@ public class AuthService {
      * y genera un token JWT si la autenticación es exitosa.
      * 
      * @param request DTO con el correo y la contraseña del usuario
-     * @return LoginResponseDTO que contiene el token JWT generado
+     * @return LoginResponseDTO con el token JWT generado, su caducidad y los
+     *         datos básicos del usuario
      * @throws RuntimeException Si el usuario no existe, la contraseña es incorrecta
      *                          o el email no ha sido verificado
      */
@@ -73,9 +77,11 @@ public class AuthService {
             throw new RuntimeException("Debes verificar tu email antes de iniciar sesión. Revisa tu correo.");
         }
 
-        String token = jwtUtil.generarToken(usuario.getCorreo(), usuario.getRol());
+        Date expiracion = jwtUtil.calcularExpiracion();
+        String token = jwtUtil.generarToken(usuario.getCorreo(), usuario.getRol(), expiracion);
 
         log.info("Login exitoso - Usuario: {}, Rol: {}", request.getCorreo(), usuario.getRol());
-        return new LoginResponseDTO(token);
+        return new LoginResponseDTO(token, usuario.getId_usuario(), usuario.getNombre_completo(),
+                usuario.getCorreo(), usuario.getRol(), expiracion.getTime());
     }
 }
\ No newline at end of file
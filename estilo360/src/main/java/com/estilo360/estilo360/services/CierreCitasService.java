@@ -0,0 +1,55 @@
+package com.estilo360.estilo360.services;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.estilo360.estilo360.config.SoloLider;
+import com.estilo360.estilo360.dao.CitaDAO;
+
+/**
+ * Servicio encargado de cerrar las citas cuya fecha ya ha pasado.
+ *
+ * Periódicamente marca como completadas, con un único UPDATE, las citas
+ * pendientes o confirmadas anteriores al momento actual. Así las citas
+ * vigentes son solo las futuras y las consultas de próximas citas trabajan
+ * sobre el índice parcial de citas vigentes.
+ *
+ * @version 1.0
+ */
+@Service
+public class CierreCitasService {
+
+    /** DAO para acceso a los datos de citas */
+    private final CitaDAO citaDAO;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(CierreCitasService.class);
+
+    /**
+     * Constructor que inyecta el DAO de citas.
+     *
+     * @param citaDAO DAO de citas
+     */
+    public CierreCitasService(CitaDAO citaDAO) {
+        this.citaDAO = citaDAO;
+    }
+
+    /**
+     * Tarea programada que marca como completadas las citas pasadas.
+     * Con varios nodos solo la ejecuta el líder.
+     */
+    @SoloLider("cierre-citas")
+    @Scheduled(fixedDelayString = "${app.citas.cierre-intervalo-ms:900000}",
+               initialDelayString = "${app.citas.cierre-retraso-inicial-ms:30000}")
+    public void completarCitasPasadas() {
+        int completadas = citaDAO.completarCitasPasadas(LocalDate.now(), LocalTime.now());
+        if (completadas > 0) {
+            log.info("Citas pasadas marcadas como completadas: {}", completadas);
+        }
+    }
+}
@@ -8,15 +8,17 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.estilo360.estilo360.dao.*;
 import com.estilo360.estilo360.dto.CitaDTO;
+import com.estilo360.estilo360.dto.DashboardClienteDTO;
+import com.estilo360.estilo360.dto.UsuarioDTO;
 import com.estilo360.estilo360.entidades.*;
 import com.estilo360.estilo360.security.JwtUtil;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 
 
 import org.slf4j.Logger;
@@ -26,9 +28,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Servicio de negocio para la gestión de citas.
  * Proporciona métodos para crear, actualizar, listar y eliminar citas,
- * así como para obtener historial, próximas citas y horarios disponibles.
+ * así como para obtener historial, próximas citas, horarios disponibles
+ * y los datos agregados del dashboard del cliente.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 public class CitaService {
@@ -109,7 +112,7 @@ public class CitaService {
                 servicio,
                 fecha,
                 hora,
-                "pendiente",
+                EstadoCita.PENDIENTE,
                 dto.getObservaciones()
         );
 
@@ -169,7 +172,7 @@ public class CitaService {
                 cita.getServicio().getId_servicio(),
                 cita.getFecha().format(fechaFormatter),
                 cita.getHora().format(horaFormatter),
-                cita.getEstado(),
+                cita.getEstado().getValor(),
                 cita.getObservaciones()
         );
 
@@ -185,7 +188,8 @@ public class CitaService {
      * @param id ID de la cita a actualizar
      * @param dto Datos actualizados de la cita
      * @return CitaDTO actualizado
-     * @throws RuntimeException Si la cita, usuario, empleado o servicio no existen
+     * @throws RuntimeException Si la cita, usuario, empleado o servicio no existen,
+     *                          o si el estado no es válido
      */
     public CitaDTO actualizarCita(Long id, CitaDTO dto) {
         Cita cita = citaDAO.findById(id)
@@ -203,12 +207,19 @@ public class CitaService {
         LocalDate fecha = LocalDate.parse(dto.getFecha(), fechaFormatter);
         LocalTime hora = LocalTime.parse(dto.getHora(), horaFormatter);
 
+        // Si la cita cambia de fecha u hora, el recordatorio debe volver a enviarse
+        if (!fecha.equals(cita.getFecha()) || !hora.equals(cita.getHora())) {
+            cita.setRecordatorioEnviadoEn(null);
+        }
+
         cita.setUsuario(usuario);
         cita.setEmpleado(empleado);
         cita.setServicio(servicio);
         cita.setFecha(fecha);
         cita.setHora(hora);
-        cita.setEstado(dto.getEstado());
+        if (dto.getEstado() != null) {
+            cita.setEstado(EstadoCita.desdeValor(dto.getEstado()));
+        }
         cita.setObservaciones(dto.getObservaciones());
 
         cita = citaDAO.save(cita);
@@ -229,17 +240,9 @@ public class CitaService {
         Usuario usuario = usuarioDAO.findByCorreo(correo)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
-        LocalDate hoy = LocalDate.now();
-        LocalTime ahora = LocalTime.now();
-
-        return citaDAO.findAll().stream()
-                .filter(c -> c.getUsuario().getId_usuario().equals(usuario.getId_usuario()))
-                .filter(c -> c.getFecha().isBefore(hoy) || 
-                            (c.getFecha().isEqual(hoy) && c.getHora().isBefore(ahora)))
-                .sorted(Comparator.comparing(Cita::getFecha)
-                                 .thenComparing(Cita::getHora)
-                                 .reversed())
-                .limit(limite)
+        return citaDAO.findHistorial(usuario.getId_usuario(), LocalDate.now(), LocalTime.now(),
+                        PageRequest.of(0, limite))
+                .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -256,17 +259,14 @@ public class CitaService {
         Usuario usuario = usuarioDAO.findByCorreo(correo)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
-        return citaDAO.findAll().stream()
-                .filter(c -> c.getUsuario().getId_usuario().equals(usuario.getId_usuario()))
-                .sorted(Comparator.comparing(Cita::getFecha)
-                                 .thenComparing(Cita::getHora)
-                                 .reversed())
+        return citaDAO.findByUsuario(usuario.getId_usuario())
+                .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Obtiene la próxima cita futura de un usuario que no esté cancelada.
+     * Obtiene la próxima cita futura de un usuario que esté pendiente o confirmada.
      * 
      * @param token Token JWT del usuario
      * @return CitaDTO de la próxima cita o null si no existe
@@ -277,18 +277,67 @@ public class CitaService {
         Usuario usuario = usuarioDAO.findByCorreo(correo)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
+        return citaDAO.findProximaVigente(usuario.getId_usuario(), LocalDate.now(), LocalTime.now())
+                .map(this::mapToDTO)
+                .orElse(null);
+    }
+
+    /**
+     * Obtiene en una sola llamada los datos del dashboard del cliente: perfil,
+     * próxima cita, historial reciente y todas sus citas.
+     * 
+     * El usuario se resuelve una vez y las citas se leen con una única consulta
+     * ordenada por fecha y hora ({@link CitaDAO#findByUsuario(Long)}, índice por
+     * usuario), de la que se obtienen también la próxima cita y el historial.
+     * Los criterios son los mismos que los de {@link #obtenerProximaCita(String)}
+     * y {@link #obtenerHistorialUsuario(String, int)}.
+     * 
+     * @param token Token JWT del usuario
+     * @param limiteHistorial Cantidad máxima de citas del historial
+     * @return DashboardClienteDTO con los datos del cliente
+     * @throws RuntimeException Si el usuario no existe
+     */
+    public DashboardClienteDTO obtenerDashboardCliente(String token, int limiteHistorial) {
+        String correo = jwtUtil.obtenerCorreo(token);
+        Usuario usuario = usuarioDAO.findByCorreo(correo)
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+
         LocalDate hoy = LocalDate.now();
         LocalTime ahora = LocalTime.now();
 
-        return citaDAO.findAll().stream()
-                .filter(c -> c.getUsuario().getId_usuario().equals(usuario.getId_usuario()))
-                .filter(c -> !c.getEstado().equalsIgnoreCase("cancelada"))
-                .filter(c -> c.getFecha().isAfter(hoy) || 
-                            (c.getFecha().isEqual(hoy) && c.getHora().isAfter(ahora)))
-                .min(Comparator.comparing(Cita::getFecha)
-                              .thenComparing(Cita::getHora))
-                .map(this::mapToDTO)
-                .orElse(null);
+        List<Cita> citas = citaDAO.findByUsuario(usuario.getId_usuario());
+        List<CitaDTO> todas = new ArrayList<>(citas.size());
+        List<CitaDTO> historial = new ArrayList<>(limiteHistorial);
+        CitaDTO proxima = null;
+
+        // Las citas vienen de la más reciente a la más antigua: la última cita
+        // futura vigente que se encuentra es la más próxima
+        for (Cita cita : citas) {
+            CitaDTO dto = mapToDTO(cita);
+            todas.add(dto);
+
+            boolean futura = cita.getFecha().isAfter(hoy)
+                    || (cita.getFecha().isEqual(hoy) && cita.getHora().isAfter(ahora));
+            boolean pasada = cita.getFecha().isBefore(hoy)
+                    || (cita.getFecha().isEqual(hoy) && cita.getHora().isBefore(ahora));
+
+            if (futura && EstadoCita.ACTIVOS.contains(cita.getEstado())) {
+                proxima = dto;
+            } else if (pasada && historial.size() < limiteHistorial) {
+                historial.add(dto);
+            }
+        }
+
+        UsuarioDTO perfil = new UsuarioDTO(
+                usuario.getId_usuario(),
+                usuario.getNombre_completo(),
+                usuario.getCorreo(),
+                usuario.getMovil(),
+                usuario.getRol(),
+                null
+        );
+
+        return new DashboardClienteDTO(perfil, proxima, historial, todas);
     }
 
     /**
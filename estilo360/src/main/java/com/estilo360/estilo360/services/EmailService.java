@@ -1,51 +1,103 @@
 package com.estilo360.estilo360.services;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import org.springframework.scheduling.annotation.Async;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Servicio de negocio para el envío de correos electrónicos.
- * Proporciona métodos para enviar emails de verificación de cuenta
- * y de recuperación de contraseña de forma asíncrona.
+ * Proporciona métodos para enviar emails de verificación de cuenta,
+ * de recuperación de contraseña y recordatorios de citas.
+ * 
+ * Los correos no se envían en el hilo que los solicita: se encolan como
+ * trabajos de tipo {@value #TIPO_TRABAJO} en la cola persistente, de modo que
+ * sobreviven a un reinicio y se reintentan si el servidor SMTP falla.
  * 
- * @version 1.0
+ * @version 1.1
  */
 @Service
 public class EmailService {
 
+    /** Tipo de trabajo con el que se encolan los correos */
+    public static final String TIPO_TRABAJO = "email";
+
     /** Componente para enviar correos electrónicos */
     private final JavaMailSender mailSender;
 
+    /** Cola persistente de trabajos */
+    private final TrabajoService trabajoService;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(EmailService.class);
+
     /** URL base de la aplicación, utilizada en los emails */
     @Value("${app.base.url}")
     private String baseUrl;
 
     /**
-     * Constructor que inyecta el componente JavaMailSender.
+     * Datos de un correo encolado.
+     * 
+     * @param destinatario Correo electrónico del destinatario
+     * @param asunto Asunto del correo
+     * @param texto Cuerpo del correo
+     */
+    public record Correo(String destinatario, String asunto, String texto) {}
+
+    /**
+     * Constructor que inyecta el componente JavaMailSender y la cola de trabajos.
      * 
      * @param mailSender Componente para enviar correos electrónicos
+     * @param trabajoService Cola persistente de trabajos
      */
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, TrabajoService trabajoService) {
         this.mailSender = mailSender;
+        this.trabajoService = trabajoService;
+    }
+
+    /**
+     * Envía un correo electrónico de forma síncrona.
+     * Lo utiliza el manejador de los trabajos de correo.
+     * 
+     * @param correo Datos del correo
+     * @throws org.springframework.mail.MailException si el envío falla
+     */
+    @Timed(value = "estilo360.mail.envio", description = "Tiempo de envío de correos por SMTP",
+           percentiles = {0.5, 0.95, 0.99})
+    public void enviar(Correo correo) {
+        SimpleMailMessage mensaje = new SimpleMailMessage();
+        mensaje.setTo(correo.destinatario());
+        mensaje.setSubject(correo.asunto());
+        mensaje.setText(correo.texto());
+
+        mailSender.send(mensaje);
+        log.info("Email enviado a {} ({})", correo.destinatario(), correo.asunto());
     }
 
     /**
-     * Envía un correo electrónico de verificación de cuenta de forma asíncrona.
+     * Encola un correo para enviarlo en segundo plano.
+     * 
+     * @param destinatario Correo electrónico del destinatario
+     * @param asunto Asunto del correo
+     * @param texto Cuerpo del correo
+     */
+    private void encolar(String destinatario, String asunto, String texto) {
+        trabajoService.encolar(TIPO_TRABAJO, new Correo(destinatario, asunto, texto));
+    }
+
+    /**
+     * Envía un correo electrónico de verificación de cuenta en segundo plano.
      * Incluye un código que el usuario debe ingresar para activar su cuenta.
      * 
      * @param destinatario Correo electrónico del usuario destinatario
      * @param codigo Código de verificación a enviar
      */
-    @Async
     public void enviarEmailVerificacion(String destinatario, String codigo) {
-        try {
-            SimpleMailMessage mensaje = new SimpleMailMessage();
-            mensaje.setTo(destinatario);
-            mensaje.setSubject("Código de verificación - Estilo360");
-            mensaje.setText(
+        encolar(destinatario, "Código de verificación - Estilo360",
                 "¡Bienvenido a Estilo360!\n\n" +
                 "Tu código de verificación es:\n\n" +
                 "      " + codigo + "\n\n" +
@@ -53,30 +105,18 @@ public class EmailService {
                 "Este código es válido por 24 horas.\n\n" +
                 "Si no te registraste en Estilo360, ignora este mensaje.\n\n" +
                 "Saludos,\n"
-            );
-
-            mailSender.send(mensaje);
-            System.out.println("Email enviado a: " + destinatario + " con código: " + codigo);
-
-        } catch (Exception e) {
-            System.err.println("Error al enviar email: " + e.getMessage());
-        }
+        );
     }
 
     /**
-     * Envía un correo electrónico para restablecer la contraseña de forma asíncrona.
+     * Envía un correo electrónico para restablecer la contraseña en segundo plano.
      * Incluye un código que el usuario debe ingresar para establecer una nueva contraseña.
      * 
      * @param destinatario Correo electrónico del usuario destinatario
      * @param codigo Código de recuperación de contraseña a enviar
      */
-    @Async
     public void enviarEmailResetPassword(String destinatario, String codigo) {
-        try {
-            SimpleMailMessage mensaje = new SimpleMailMessage();
-            mensaje.setTo(destinatario);
-            mensaje.setSubject("Recuperar contraseña - Estilo360");
-            mensaje.setText(
+        encolar(destinatario, "Recuperar contraseña - Estilo360",
                 "Hola,\n\n" +
                 "Recibimos una solicitud para restablecer tu contraseña en Estilo360.\n\n" +
                 "Tu código de recuperación es:\n\n" +
@@ -86,13 +126,30 @@ public class EmailService {
                 "Si no solicitaste este cambio, ignora este mensaje y tu contraseña permanecerá sin cambios.\n\n" +
                 "Saludos,\n" +
                 "El equipo de Estilo360"
-            );
-
-            mailSender.send(mensaje);
-            System.out.println("Email de reset enviado a: " + destinatario + " con código: " + codigo);
+        );
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error al enviar email de reset: " + e.getMessage());
-        }
+    /**
+     * Envía un recordatorio de una cita próxima en segundo plano.
+     * 
+     * @param destinatario Correo electrónico del cliente
+     * @param nombre Nombre del cliente
+     * @param servicio Nombre del servicio reservado
+     * @param empleado Nombre del empleado que atenderá la cita
+     * @param fecha Fecha de la cita (dd/MM/yyyy)
+     * @param hora Hora de la cita (HH:mm)
+     */
+    public void enviarEmailRecordatorio(String destinatario, String nombre, String servicio,
+                                        String empleado, String fecha, String hora) {
+        encolar(destinatario, "Recordatorio de tu cita - Estilo360",
+                "Hola " + nombre + ",\n\n" +
+                "Te recordamos que tienes una cita en Estilo360:\n\n" +
+                "      Servicio: " + servicio + "\n" +
+                "      Profesional: " + empleado + "\n" +
+                "      Fecha: " + fecha + " a las " + hora + "\n\n" +
+                "Si no puedes asistir, cancela la cita desde tu área de cliente.\n\n" +
+                "Saludos,\n" +
+                "El equipo de Estilo360"
+        );
     }
 }
\ No newline at end of file
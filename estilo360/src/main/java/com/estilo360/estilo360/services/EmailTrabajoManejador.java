@@ -0,0 +1,50 @@
+package com.estilo360.estilo360.services;
+
+import org.springframework.stereotype.Component;
+
+import com.estilo360.estilo360.entidades.Trabajo;
+
+/**
+ * Manejador de los trabajos de envío de correo.
+ *
+ * Lee los datos del correo del trabajo y lo envía de forma síncrona en el
+ * ejecutor de correo; si el servidor SMTP falla, la excepción hace que el
+ * trabajo se reintente más tarde.
+ *
+ * @version 1.0
+ */
+@Component
+public class EmailTrabajoManejador implements ManejadorTrabajo {
+
+    /** Servicio de correo */
+    private final EmailService emailService;
+
+    /** Servicio de la cola de trabajos, para leer los datos */
+    private final TrabajoService trabajoService;
+
+    /**
+     * Constructor que inyecta el servicio de correo y el de trabajos.
+     *
+     * @param emailService Servicio de correo
+     * @param trabajoService Servicio de la cola de trabajos
+     */
+    public EmailTrabajoManejador(EmailService emailService, TrabajoService trabajoService) {
+        this.emailService = emailService;
+        this.trabajoService = trabajoService;
+    }
+
+    @Override
+    public String getTipo() {
+        return EmailService.TIPO_TRABAJO;
+    }
+
+    @Override
+    public String getEjecutor() {
+        return "mailExecutor";
+    }
+
+    @Override
+    public void ejecutar(Trabajo trabajo) {
+        emailService.enviar(trabajoService.leerDatos(trabajo, EmailService.Correo.class));
+    }
+}
@@ -0,0 +1,242 @@
+package com.estilo360.estilo360.services;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Servicio de elección de líder entre los nodos de la API.
+ *
+ * Cada liderazgo (por ejemplo, "recordatorios") se corresponde con un bloqueo
+ * consultivo de Postgres ({@code pg_try_advisory_lock}). El nodo que consigue el
+ * bloqueo es el líder mientras mantenga abierta su sesión; si el nodo cae o
+ * pierde la conexión, Postgres libera el bloqueo y otro nodo lo obtiene en su
+ * siguiente renovación.
+ *
+ * Los bloqueos consultivos pertenecen a la sesión, por eso se usa una conexión
+ * dedicada fuera del pool: una conexión del pool podría devolverse con el
+ * bloqueo tomado o cerrarse sin que nos enteremos. La conexión se comprueba
+ * periódicamente; el liderazgo solo se considera válido durante
+ * {@code app.lider.lease-ms} desde la última comprobación correcta.
+ *
+ * La URL y el usuario de la conexión dedicada se leen del datasource que usa la
+ * aplicación (que puede no ser el de {@code spring.datasource.*}, como en los
+ * tests con Postgres embebido); la contraseña solo se pasa si está configurada.
+ *
+ * @version 1.1
+ */
+@Service
+public class LiderazgoService {
+
+    /** Datasource de la aplicación, del que se leen la URL y el usuario */
+    private final DataSource dataSource;
+
+    /** Propiedades del datasource, para la contraseña de la conexión dedicada */
+    private final DataSourceProperties dataSourceProperties;
+
+    /** URL JDBC de la base de datos de la aplicación, leída al abrir la primera conexión */
+    private String url;
+
+    /** Usuario de la base de datos de la aplicación */
+    private String usuario;
+
+    /** Liderazgos conocidos y si este nodo los tiene */
+    private final Map<String, Boolean> liderazgos = new ConcurrentHashMap<>();
+
+    /** Conexión dedicada que mantiene los bloqueos */
+    private Connection conexion;
+
+    /** Momento (ms) de la última comprobación correcta de la conexión */
+    private volatile long ultimaRenovacion;
+
+    /** Permite desactivar la elección (un único nodo, desarrollo) */
+    @Value("${app.lider.habilitado:true}")
+    private boolean habilitado;
+
+    /** Tiempo durante el que el liderazgo es válido sin renovarse */
+    @Value("${app.lider.lease-ms:30000}")
+    private long leaseMs;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(LiderazgoService.class);
+
+    /**
+     * Constructor que inyecta el datasource y sus propiedades.
+     *
+     * @param dataSource Datasource de la aplicación
+     * @param dataSourceProperties Propiedades del datasource
+     */
+    public LiderazgoService(DataSource dataSource, DataSourceProperties dataSourceProperties) {
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    /**
+     * Indica si este nodo es el líder de un liderazgo, intentando obtenerlo si
+     * nadie lo tiene.
+     *
+     * @param nombre Nombre del liderazgo
+     * @return true si este nodo es el líder
+     */
+    public synchronized boolean esLider(String nombre) {
+        if (!habilitado) {
+            return true;
+        }
+
+        if (Boolean.TRUE.equals(liderazgos.get(nombre))) {
+            if (System.currentTimeMillis() - ultimaRenovacion <= leaseMs) {
+                return true;
+            }
+            // Lease caducado: se comprueba la conexión antes de seguir actuando como líder
+            renovar();
+            return Boolean.TRUE.equals(liderazgos.get(nombre));
+        }
+
+        return adquirir(nombre);
+    }
+
+    /**
+     * Tarea programada que renueva el lease comprobando la conexión dedicada.
+     *
+     * Si la conexión se ha perdido, se descartan todos los liderazgos (Postgres
+     * ya los habrá liberado) y se reconecta. Después se intenta obtener los
+     * liderazgos conocidos que no se tienen, lo que permite tomar el relevo
+     * de un líder caído.
+     */
+    @Scheduled(fixedDelayString = "${app.lider.renovacion-ms:10000}")
+    public synchronized void renovar() {
+        if (!habilitado) {
+            return;
+        }
+
+        try {
+            if (conexion != null && conexion.isValid(5)) {
+                ultimaRenovacion = System.currentTimeMillis();
+            } else {
+                perderLiderazgos();
+            }
+        } catch (SQLException e) {
+            perderLiderazgos();
+        }
+
+        liderazgos.forEach((nombre, lider) -> {
+            if (!lider) {
+                adquirir(nombre);
+            }
+        });
+    }
+
+    /**
+     * Libera los liderazgos cerrando la conexión al detener la aplicación.
+     */
+    @PreDestroy
+    public synchronized void liberar() {
+        cerrarConexion();
+        liderazgos.replaceAll((nombre, lider) -> false);
+    }
+
+    /**
+     * Intenta obtener el bloqueo consultivo de un liderazgo.
+     *
+     * @param nombre Nombre del liderazgo
+     * @return true si se ha obtenido
+     */
+    private boolean adquirir(String nombre) {
+        boolean obtenido = false;
+        try {
+            Connection c = getConexion();
+            try (PreparedStatement ps = c.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+                ps.setString(1, "estilo360:" + nombre);
+                try (ResultSet rs = ps.executeQuery()) {
+                    obtenido = rs.next() && rs.getBoolean(1);
+                }
+            }
+            ultimaRenovacion = System.currentTimeMillis();
+        } catch (SQLException e) {
+            log.warn("No se pudo comprobar el liderazgo {}: {}", nombre, e.getMessage());
+            perderLiderazgos();
+        }
+
+        Boolean anterior = liderazgos.put(nombre, obtenido);
+        if (obtenido && !Boolean.TRUE.equals(anterior)) {
+            log.info("Este nodo es ahora el líder de {}", nombre);
+        }
+        return obtenido;
+    }
+
+    /**
+     * Marca todos los liderazgos como perdidos y cierra la conexión.
+     */
+    private void perderLiderazgos() {
+        liderazgos.replaceAll((nombre, lider) -> {
+            if (lider) {
+                log.warn("Este nodo ha perdido el liderazgo de {}", nombre);
+            }
+            return false;
+        });
+        cerrarConexion();
+    }
+
+    /**
+     * Devuelve la conexión dedicada, abriéndola si es necesario.
+     *
+     * @return Conexión dedicada
+     * @throws SQLException si no se puede conectar
+     */
+    private Connection getConexion() throws SQLException {
+        if (conexion == null || conexion.isClosed()) {
+            if (url == null) {
+                try (Connection c = dataSource.getConnection()) {
+                    DatabaseMetaData metaData = c.getMetaData();
+                    usuario = metaData.getUserName();
+                    url = metaData.getURL();
+                }
+            }
+
+            Properties props = new Properties();
+            props.setProperty("user", usuario);
+            // Sin contraseña configurada (autenticación trust o peer) no se envía
+            String contrasena = dataSourceProperties.determinePassword();
+            if (contrasena != null) {
+                props.setProperty("password", contrasena);
+            }
+            props.setProperty("ApplicationName", "estilo360-lider");
+            props.setProperty("tcpKeepAlive", "true");
+            props.setProperty("socketTimeout", "10");
+            conexion = DriverManager.getConnection(url, props);
+            conexion.setAutoCommit(true);
+        }
+        return conexion;
+    }
+
+    /**
+     * Cierra la conexión dedicada, liberando los bloqueos que tuviera.
+     */
+    private void cerrarConexion() {
+        if (conexion != null) {
+            try {
+                conexion.close();
+            } catch (SQLException e) {
+                log.debug("Error al cerrar la conexión de liderazgo: {}", e.getMessage());
+            }
+            conexion = null;
+        }
+    }
+}
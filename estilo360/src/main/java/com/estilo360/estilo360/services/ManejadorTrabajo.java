@@ -0,0 +1,43 @@
+package com.estilo360.estilo360.services;
+
+import com.estilo360.estilo360.entidades.Trabajo;
+
+/**
+ * Contrato de los manejadores de trabajos en segundo plano.
+ *
+ * Cada manejador atiende un tipo de trabajo. El worker reclama los trabajos de
+ * ese tipo y los ejecuta en el ejecutor indicado; si {@link #ejecutar} lanza una
+ * excepción, el trabajo se reintenta más tarde hasta agotar sus intentos.
+ *
+ * Como un trabajo puede ejecutarse más de una vez (por ejemplo, si el nodo cae
+ * justo después de terminarlo), las implementaciones deben ser idempotentes o
+ * tolerar repeticiones.
+ *
+ * @version 1.0
+ */
+public interface ManejadorTrabajo {
+
+    /**
+     * Tipo de trabajo que atiende este manejador.
+     *
+     * @return Tipo de trabajo
+     */
+    String getTipo();
+
+    /**
+     * Nombre del bean ejecutor en el que se ejecutan los trabajos de este tipo.
+     *
+     * @return Nombre del ejecutor
+     */
+    default String getEjecutor() {
+        return "taskExecutor";
+    }
+
+    /**
+     * Ejecuta un trabajo.
+     *
+     * @param trabajo Trabajo reclamado
+     * @throws Exception si el trabajo falla y debe reintentarse
+     */
+    void ejecutar(Trabajo trabajo) throws Exception;
+}
@@ -12,16 +12,23 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
  * Servicio encargado de generar PDFs para el catálogo de servicios.
  * Utiliza iText para crear documentos PDF con formato corporativo.
  * 
- * @version 1.0
+ * @version 1.2
  */
 @Service
 public class PdfService {
@@ -29,6 +36,15 @@ public class PdfService {
     /** DAO para acceso a datos de servicios */
     private final ServicioDAO servicioDAO;
 
+    /**
+     * Versión del diseño del PDF, que forma parte del ETag. Hay que cambiarla
+     * al modificar el documento para que los navegadores no usen copias antiguas.
+     */
+    private static final String VERSION_DISENO = "1";
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(PdfService.class);
+
     /**
      * Constructor que inyecta el DAO de servicios.
      * 
@@ -38,6 +54,32 @@ public class PdfService {
         this.servicioDAO = servicioDAO;
     }
 
+    /**
+     * Calcula el ETag del PDF del catálogo sin generarlo.
+     * Se obtiene de los datos que muestra el documento, así que cambia cuando
+     * se crea, modifica o elimina un servicio, y permite responder 304 a un
+     * navegador que ya tiene el PDF actual.
+     * 
+     * @return Huella hexadecimal del contenido del PDF
+     */
+    public String calcularEtag() {
+        StringBuilder datos = new StringBuilder(VERSION_DISENO);
+        for (Servicio servicio : servicioDAO.findAllOrderById()) {
+            datos.append('|').append(servicio.getId_servicio())
+                 .append(';').append(servicio.getNombre())
+                 .append(';').append(servicio.getDescripcion())
+                 .append(';').append(servicio.getPrecio())
+                 .append(';').append(servicio.getDuracion_minutos());
+        }
+        try {
+            byte[] huella = MessageDigest.getInstance("SHA-256")
+                    .digest(datos.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(huella, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Genera un PDF con el catálogo de servicios disponibles.
      * Incluye nombre, descripción, precio y duración de cada servicio.
@@ -45,6 +87,8 @@ public class PdfService {
      * @return Arreglo de bytes que representa el PDF generado
      * @throws RuntimeException si ocurre un error al generar el PDF
      */
+    @Timed(value = "estilo360.pdf.generacion", description = "Tiempo de generación del PDF de servicios",
+           percentiles = {0.5, 0.95, 0.99})
     public byte[] generarPdfServicios() {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -74,7 +118,7 @@ public class PdfService {
             document.add(subtitulo);
 
             // Obtener servicios
-            List<Servicio> servicios = servicioDAO.findAll();
+            List<Servicio> servicios = servicioDAO.findAllOrderById();
 
             if (servicios.isEmpty()) {
                 Paragraph noServicios = new Paragraph("No hay servicios disponibles")
@@ -141,7 +185,7 @@ public class PdfService {
             document.close();
 
         } catch (Exception e) {
-            System.err.println("Error al generar PDF: " + e.getMessage());
+            log.error("Error al generar PDF", e);
             throw new RuntimeException("Error al generar PDF de servicios");
         }
 
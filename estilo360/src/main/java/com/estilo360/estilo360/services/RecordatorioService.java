@@ -0,0 +1,152 @@
+package com.estilo360.estilo360.services;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estilo360.estilo360.config.SoloLider;
+import com.estilo360.estilo360.dao.CitaDAO;
+import com.estilo360.estilo360.entidades.Cita;
+import com.estilo360.estilo360.entidades.EstadoCita;
+
+/**
+ * Servicio encargado de enviar recordatorios de las citas próximas.
+ *
+ * Periódicamente consulta solo las citas que caen dentro de la ventana de
+ * recordatorio (mediante una consulta por rango de fecha y hora) y las entrega
+ * por lotes al servicio de correo. Cada cita se marca como recordada y su correo
+ * se encola en la misma transacción en la que se lee, de forma que el proceso es
+ * idempotente y no pierde recordatorios: una cita nunca recibe dos salvo que
+ * cambie de fecha u hora.
+ *
+ * @version 1.1
+ */
+@Service
+public class RecordatorioService {
+
+    /** DAO para acceso a los datos de citas */
+    private final CitaDAO citaDAO;
+
+    /** Servicio de correo para enviar los recordatorios */
+    private final EmailService emailService;
+
+    /** Plantilla de transacciones para leer y marcar cada lote de forma atómica */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Horas de antelación con las que se envía el recordatorio */
+    @Value("${app.recordatorios.ventana-horas:24}")
+    private long ventanaHoras;
+
+    /** Número de citas procesadas por lote */
+    @Value("${app.recordatorios.tamano-lote:100}")
+    private int tamanoLote;
+
+    /** Número máximo de lotes procesados en cada ejecución */
+    @Value("${app.recordatorios.max-lotes:50}")
+    private int maxLotes;
+
+    /** Formateador de fechas (dd/MM/yyyy) */
+    private final DateTimeFormatter fechaFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /** Formateador de horas (HH:mm) */
+    private final DateTimeFormatter horaFormatter = DateTimeFormatter.ofPattern("HH:mm");
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(RecordatorioService.class);
+
+    /**
+     * Constructor que inyecta el DAO de citas, el servicio de correo y la plantilla de transacciones.
+     *
+     * @param citaDAO DAO de citas
+     * @param emailService Servicio de correo
+     * @param transactionTemplate Plantilla de transacciones
+     */
+    public RecordatorioService(CitaDAO citaDAO, EmailService emailService,
+                               TransactionTemplate transactionTemplate) {
+        this.citaDAO = citaDAO;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Tarea programada que envía los recordatorios de las citas de la próxima ventana.
+     *
+     * Procesa lotes hasta que no quedan citas pendientes en la ventana o se alcanza
+     * el máximo de lotes por ejecución. Con varios nodos solo la ejecuta el líder.
+     */
+    @SoloLider("recordatorios")
+    @Scheduled(fixedDelayString = "${app.recordatorios.intervalo-ms:300000}",
+               initialDelayString = "${app.recordatorios.retraso-inicial-ms:60000}")
+    public void enviarRecordatorios() {
+        LocalDateTime desde = LocalDateTime.now();
+        LocalDateTime hasta = desde.plusHours(ventanaHoras);
+
+        int enviados = 0;
+        for (int lote = 0; lote < maxLotes; lote++) {
+            int procesadas = procesarLote(desde, hasta);
+            enviados += procesadas;
+
+            if (procesadas < tamanoLote) {
+                break;
+            }
+        }
+
+        if (enviados > 0) {
+            log.info("Recordatorios de citas encolados: {}", enviados);
+        }
+    }
+
+    /**
+     * Lee un lote de citas pendientes de recordatorio, lo marca como enviado y
+     * encola sus correos dentro de una única transacción.
+     *
+     * @param desde Inicio de la ventana
+     * @param hasta Fin de la ventana
+     * @return Número de citas procesadas
+     */
+    private int procesarLote(LocalDateTime desde, LocalDateTime hasta) {
+        Integer procesadas = transactionTemplate.execute(estado -> {
+            List<Cita> pendientes = citaDAO.findPendientesDeRecordatorio(
+                    desde.toLocalDate(), desde.toLocalTime(),
+                    hasta.toLocalDate(), hasta.toLocalTime(),
+                    EstadoCita.ACTIVOS,
+                    PageRequest.of(0, tamanoLote));
+
+            if (!pendientes.isEmpty()) {
+                List<Long> ids = pendientes.stream()
+                        .map(Cita::getId_cita)
+                        .collect(Collectors.toList());
+                citaDAO.marcarRecordatorioEnviado(ids, LocalDateTime.now());
+                pendientes.forEach(this::enviarRecordatorio);
+            }
+            return pendientes.size();
+        });
+
+        return procesadas != null ? procesadas : 0;
+    }
+
+    /**
+     * Entrega el recordatorio de una cita al servicio de correo.
+     *
+     * @param cita Cita cuyo recordatorio se envía
+     */
+    private void enviarRecordatorio(Cita cita) {
+        emailService.enviarEmailRecordatorio(
+                cita.getUsuario().getCorreo(),
+                cita.getUsuario().getNombre_completo(),
+                cita.getServicio().getNombre(),
+                cita.getEmpleado().getNombre_completo(),
+                cita.getFecha().format(fechaFormatter),
+                cita.getHora().format(horaFormatter)
+        );
+    }
+}
@@ -0,0 +1,213 @@
+package com.estilo360.estilo360.services;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estilo360.estilo360.dao.TrabajoDAO;
+import com.estilo360.estilo360.entidades.Trabajo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Servicio encargado de la cola persistente de trabajos en segundo plano.
+ *
+ * Permite encolar trabajos, reclamarlos por lotes desde cualquier nodo y
+ * registrar su resultado. Un trabajo reclamado queda bloqueado durante un
+ * tiempo de visibilidad; si no se completa en ese tiempo vuelve a estar
+ * disponible. Los fallos se reintentan con espera exponencial hasta agotar
+ * el número máximo de intentos.
+ *
+ * @version 1.0
+ */
+@Service
+public class TrabajoService {
+
+    /** DAO para acceso a los datos de trabajos */
+    private final TrabajoDAO trabajoDAO;
+
+    /** Serializador de los datos de los trabajos */
+    private final ObjectMapper objectMapper;
+
+    /** Plantilla de transacciones para reclamar cada lote de forma atómica */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Identificador de este nodo, registrado en los trabajos que reclama */
+    @Value("${app.nodo.id:}")
+    private String nodo;
+
+    /** Número máximo de intentos por trabajo */
+    @Value("${app.trabajos.max-intentos:5}")
+    private int maxIntentos;
+
+    /** Segundos que un trabajo reclamado permanece bloqueado para otros workers */
+    @Value("${app.trabajos.visibilidad-segundos:300}")
+    private long visibilidadSegundos;
+
+    /** Espera base entre reintentos, en segundos */
+    @Value("${app.trabajos.reintento-base-segundos:30}")
+    private long reintentoBaseSegundos;
+
+    /** Espera máxima entre reintentos, en segundos */
+    @Value("${app.trabajos.reintento-max-segundos:3600}")
+    private long reintentoMaxSegundos;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(TrabajoService.class);
+
+    /**
+     * Constructor que inyecta el DAO de trabajos, el serializador JSON y la plantilla de transacciones.
+     *
+     * @param trabajoDAO DAO de trabajos
+     * @param objectMapper Serializador JSON
+     * @param transactionTemplate Plantilla de transacciones
+     */
+    public TrabajoService(TrabajoDAO trabajoDAO, ObjectMapper objectMapper,
+                          TransactionTemplate transactionTemplate) {
+        this.trabajoDAO = trabajoDAO;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Devuelve el identificador de este nodo.
+     * Si no se configura {@code app.nodo.id} se usa "pid@host".
+     *
+     * @return Identificador del nodo
+     */
+    public String getNodo() {
+        if (nodo == null || nodo.isBlank()) {
+            nodo = ManagementFactory.getRuntimeMXBean().getName();
+        }
+        return nodo;
+    }
+
+    /**
+     * Encola un trabajo para ejecutarlo lo antes posible.
+     *
+     * Si hay una transacción en curso, el trabajo se guarda en ella y solo será
+     * visible para los workers cuando se confirme.
+     *
+     * @param tipo Tipo de trabajo
+     * @param datos Datos del trabajo, se serializan a JSON
+     * @return Trabajo encolado
+     * @throws RuntimeException si los datos no se pueden serializar
+     */
+    public Trabajo encolar(String tipo, Object datos) {
+        try {
+            String payload = objectMapper.writeValueAsString(datos);
+            return trabajoDAO.save(new Trabajo(tipo, payload, maxIntentos, LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("No se pudieron serializar los datos del trabajo " + tipo, e);
+        }
+    }
+
+    /**
+     * Lee los datos JSON de un trabajo.
+     *
+     * @param trabajo Trabajo
+     * @param clase Clase de los datos
+     * @return Datos deserializados
+     * @throws RuntimeException si los datos no son válidos
+     */
+    public <T> T leerDatos(Trabajo trabajo, Class<T> clase) {
+        try {
+            return objectMapper.readValue(trabajo.getPayload(), clase);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Datos no válidos en el trabajo " + trabajo.getId_trabajo(), e);
+        }
+    }
+
+    /**
+     * Reclama un lote de trabajos disponibles de un tipo para este nodo.
+     *
+     * Los trabajos se bloquean con {@code FOR UPDATE SKIP LOCKED}, se marcan en
+     * proceso con un nuevo intento y un bloqueo de visibilidad, y la transacción
+     * se confirma antes de ejecutarlos. Los que ya agotaron sus intentos (porque
+     * su worker cayó en el último) se marcan como fallidos en lugar de reclamarse.
+     *
+     * @param tipo Tipo de trabajo
+     * @param limite Número máximo de trabajos a reclamar
+     * @return Trabajos reclamados
+     */
+    public List<Trabajo> reclamar(String tipo, int limite) {
+        if (limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Trabajo> trabajos = transactionTemplate.execute(estado -> {
+            LocalDateTime ahora = LocalDateTime.now();
+            List<Trabajo> reclamados = new ArrayList<>();
+
+            for (Trabajo trabajo : trabajoDAO.bloquearDisponibles(tipo, ahora, limite)) {
+                if (trabajo.getIntentos() >= trabajo.getMaxIntentos()) {
+                    trabajo.setEstado(Trabajo.FALLIDO);
+                    trabajo.setBloqueadoHasta(null);
+                    trabajo.setBloqueadoPor(null);
+                    log.error("Trabajo {} ({}) abandonado tras {} intentos",
+                            trabajo.getId_trabajo(), tipo, trabajo.getIntentos());
+                    continue;
+                }
+                trabajo.setEstado(Trabajo.EN_PROCESO);
+                trabajo.setIntentos(trabajo.getIntentos() + 1);
+                trabajo.setBloqueadoHasta(ahora.plusSeconds(visibilidadSegundos));
+                trabajo.setBloqueadoPor(getNodo());
+                reclamados.add(trabajo);
+            }
+            return reclamados;
+        });
+
+        return trabajos != null ? trabajos : Collections.emptyList();
+    }
+
+    /**
+     * Registra que un trabajo se ha completado y lo elimina de la cola.
+     *
+     * @param trabajo Trabajo reclamado por este nodo
+     */
+    public void completar(Trabajo trabajo) {
+        int filas = trabajoDAO.completar(trabajo.getId_trabajo(), getNodo(), trabajo.getIntentos());
+        if (filas == 0) {
+            log.warn("El trabajo {} terminó después de caducar su bloqueo", trabajo.getId_trabajo());
+        }
+    }
+
+    /**
+     * Registra el fallo de un trabajo.
+     *
+     * Si le quedan intentos vuelve a pendiente con una espera exponencial
+     * (base * 2^(intento - 1), con un máximo); si no, queda como fallido.
+     *
+     * @param trabajo Trabajo reclamado por este nodo
+     * @param error Excepción producida
+     */
+    public void fallar(Trabajo trabajo, Exception error) {
+        boolean agotado = trabajo.getIntentos() >= trabajo.getMaxIntentos();
+        long espera = Math.min(reintentoMaxSegundos,
+                reintentoBaseSegundos << Math.min(trabajo.getIntentos() - 1, 20));
+        String mensaje = String.valueOf(error.getMessage());
+        if (mensaje.length() > 1000) {
+            mensaje = mensaje.substring(0, 1000);
+        }
+
+        trabajoDAO.registrarFallo(trabajo.getId_trabajo(), getNodo(), trabajo.getIntentos(),
+                agotado ? Trabajo.FALLIDO : Trabajo.PENDIENTE,
+                LocalDateTime.now().plusSeconds(espera), mensaje);
+
+        if (agotado) {
+            log.error("Trabajo {} ({}) fallido tras {} intentos: {}",
+                    trabajo.getId_trabajo(), trabajo.getTipo(), trabajo.getIntentos(), mensaje);
+        } else {
+            log.warn("Trabajo {} ({}) falló en el intento {}, se reintentará en {} s: {}",
+                    trabajo.getId_trabajo(), trabajo.getTipo(), trabajo.getIntentos(), espera, mensaje);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.estilo360.estilo360.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.estilo360.estilo360.entidades.Trabajo;
+
+/**
+ * Worker que ejecuta los trabajos de la cola persistente.
+ *
+ * Cada cierto tiempo, para cada tipo de trabajo con manejador registrado,
+ * reclama tantos trabajos como huecos libres tenga ese tipo según su
+ * concurrencia configurada ({@code app.trabajos.concurrencia.<tipo>}) y los
+ * ejecuta en el ejecutor del manejador. Varios nodos pueden ejecutar el worker
+ * a la vez: el reclamo con {@code SKIP LOCKED} reparte los trabajos entre ellos.
+ *
+ * @version 1.1
+ */
+@Service
+public class TrabajoWorker {
+
+    /** Servicio de la cola de trabajos */
+    private final TrabajoService trabajoService;
+
+    /** Manejadores registrados, indexados por tipo de trabajo */
+    private final Map<String, ManejadorTrabajo> manejadores = new ConcurrentHashMap<>();
+
+    /** Ejecutores disponibles, indexados por nombre de bean */
+    private final Map<String, Executor> ejecutores;
+
+    /** Entorno para leer la concurrencia de cada tipo */
+    private final Environment environment;
+
+    /** Trabajos en ejecución en este nodo por tipo */
+    private final Map<String, AtomicInteger> enCurso = new ConcurrentHashMap<>();
+
+    /** Concurrencia por defecto de los tipos sin configuración propia */
+    @Value("${app.trabajos.concurrencia-defecto:4}")
+    private int concurrenciaDefecto;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(TrabajoWorker.class);
+
+    /**
+     * Constructor que inyecta el servicio de trabajos, los manejadores y los ejecutores.
+     *
+     * @param trabajoService Servicio de la cola de trabajos
+     * @param manejadores Manejadores de trabajos registrados
+     * @param ejecutores Ejecutores disponibles por nombre de bean
+     * @param environment Entorno de configuración
+     * @throws IllegalStateException si dos manejadores atienden el mismo tipo
+     *         o el ejecutor de un manejador no existe
+     */
+    public TrabajoWorker(TrabajoService trabajoService, List<ManejadorTrabajo> manejadores,
+                         Map<String, Executor> ejecutores, Environment environment) {
+        this.trabajoService = trabajoService;
+        this.ejecutores = ejecutores;
+        this.environment = environment;
+
+        for (ManejadorTrabajo manejador : manejadores) {
+            if (this.manejadores.putIfAbsent(manejador.getTipo(), manejador) != null) {
+                throw new IllegalStateException("Manejador duplicado para el tipo de trabajo " + manejador.getTipo());
+            }
+            // Se comprueba al arrancar: fallar después de reclamar dejaría los trabajos bloqueados
+            if (!ejecutores.containsKey(manejador.getEjecutor())) {
+                throw new IllegalStateException("No existe el ejecutor " + manejador.getEjecutor()
+                        + " del tipo de trabajo " + manejador.getTipo());
+            }
+            enCurso.put(manejador.getTipo(), new AtomicInteger());
+        }
+    }
+
+    /**
+     * Tarea programada que reclama y lanza los trabajos disponibles de cada tipo.
+     */
+    @Scheduled(fixedDelayString = "${app.trabajos.intervalo-ms:1000}",
+               initialDelayString = "${app.trabajos.retraso-inicial-ms:10000}")
+    public void sondear() {
+        manejadores.values().forEach(this::sondear);
+    }
+
+    /**
+     * Reclama y lanza los trabajos disponibles de un tipo, sin superar su concurrencia.
+     *
+     * @param manejador Manejador del tipo de trabajo
+     */
+    private void sondear(ManejadorTrabajo manejador) {
+        String tipo = manejador.getTipo();
+        AtomicInteger activos = enCurso.get(tipo);
+        int libres = getConcurrencia(tipo) - activos.get();
+        if (libres <= 0) {
+            return;
+        }
+
+        List<Trabajo> trabajos;
+        try {
+            trabajos = trabajoService.reclamar(tipo, libres);
+        } catch (Exception e) {
+            log.error("Error al reclamar trabajos de tipo {}: {}", tipo, e.getMessage());
+            return;
+        }
+
+        Executor ejecutor = ejecutores.get(manejador.getEjecutor());
+
+        for (Trabajo trabajo : trabajos) {
+            activos.incrementAndGet();
+            ejecutor.execute(() -> {
+                try {
+                    ejecutar(manejador, trabajo);
+                } finally {
+                    activos.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Ejecuta un trabajo y registra su resultado.
+     *
+     * @param manejador Manejador del tipo de trabajo
+     * @param trabajo Trabajo reclamado
+     */
+    private void ejecutar(ManejadorTrabajo manejador, Trabajo trabajo) {
+        try {
+            manejador.ejecutar(trabajo);
+        } catch (Exception e) {
+            try {
+                trabajoService.fallar(trabajo, e);
+            } catch (Exception ex) {
+                // Si no se puede registrar el fallo, el bloqueo caducará y se reintentará
+                log.error("No se pudo registrar el fallo del trabajo {}: {}",
+                        trabajo.getId_trabajo(), ex.getMessage());
+            }
+            return;
+        }
+
+        try {
+            trabajoService.completar(trabajo);
+        } catch (Exception e) {
+            // El trabajo ya se ha hecho: no se marca como fallido para no repetirlo.
+            // Si el bloqueo caduca antes de poder borrarlo, se volverá a ejecutar.
+            log.error("No se pudo completar el trabajo {}: {}", trabajo.getId_trabajo(), e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene la concurrencia máxima por nodo de un tipo de trabajo.
+     *
+     * @param tipo Tipo de trabajo
+     * @return Número máximo de trabajos simultáneos de ese tipo
+     */
+    private int getConcurrencia(String tipo) {
+        return environment.getProperty("app.trabajos.concurrencia." + tipo, Integer.class, concurrenciaDefecto);
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -36,18 +38,24 @@ public class UsuarioService {
 
     /** Utilidad JWT para obtener información del token */
     private final JwtUtil jwtUtil;
+
+    /** Logger para registrar eventos */
+    private static final Logger log = LoggerFactory.getLogger(UsuarioService.class);
     
     
     /**
-     * Constructor que inyecta DAO de usuarios, servicio de correo y utilidades JWT.
+     * Constructor que inyecta DAO de usuarios, servicio de correo, utilidades JWT
+     * y el codificador de contraseñas.
      * 
      * @param usuarioDAO DAO de usuarios
      * @param emailService Servicio de email
      * @param jwtUtil Utilidad JWT
+     * @param passwordEncoder Codificador de contraseñas BCrypt
      */
-    public UsuarioService(UsuarioDAO usuarioDAO, EmailService emailService, JwtUtil jwtUtil) {
+    public UsuarioService(UsuarioDAO usuarioDAO, EmailService emailService, JwtUtil jwtUtil,
+                          BCryptPasswordEncoder passwordEncoder) {
         this.usuarioDAO = usuarioDAO;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
         this.jwtUtil = jwtUtil;  
     }
@@ -111,7 +119,7 @@ public class UsuarioService {
         try {
             emailService.enviarEmailVerificacion(usuario.getCorreo(), codigoVerificacion);
         } catch (Exception e) {
-            System.err.println("Error al enviar email: " + e.getMessage());
+            log.warn("Error al enviar email: {}", e.getMessage());
         }
 
         // Crear DTO con el ID generado
@@ -154,7 +162,7 @@ public class UsuarioService {
             return true;
 
         } catch (Exception e) {
-            System.err.println("Error al verificar código: " + e.getMessage());
+            log.warn("Error al verificar código: {}", e.getMessage());
             return false;
         }
     }
@@ -279,7 +287,7 @@ public class UsuarioService {
             emailService.enviarEmailResetPassword(correo, codigoReset);
 
         } catch (Exception e) {
-            System.err.println("Error al solicitar reset: " + e.getMessage());
+            log.warn("Error al solicitar reset: {}", e.getMessage());
             throw new RuntimeException("Error al procesar la solicitud");
         }
     }
@@ -307,7 +315,7 @@ public class UsuarioService {
             return true;
 
         } catch (Exception e) {
-            System.err.println("Error al verificar código reset: " + e.getMessage());
+            log.warn("Error al verificar código reset: {}", e.getMessage());
             return false;
         }
     }
@@ -341,7 +349,7 @@ public class UsuarioService {
             usuarioDAO.save(usuario);
 
         } catch (Exception e) {
-            System.err.println("Error al resetear password: " + e.getMessage());
+            log.warn("Error al resetear password: {}", e.getMessage());
             throw new RuntimeException("Error al cambiar la contraseña");
         }
     }
@@ -0,0 +1,65 @@
+-- Esquema inicial de Estilo360, tal y como lo generaba Hibernate (ddl-auto=update).
+-- Usa IF NOT EXISTS para que, en bases de datos creadas antes de las migraciones
+-- (línea base 0), no cambie las tablas existentes.
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id_usuario          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre_completo     varchar(50)  NOT NULL,
+    correo              varchar(255) NOT NULL CONSTRAINT uk_usuarios_correo UNIQUE,
+    movil               varchar(15)  NOT NULL,
+    rol                 varchar(255) NOT NULL,
+    contrasena          varchar(255) NOT NULL,
+    email_verificado    boolean      NOT NULL,
+    token_verificacion  varchar(100)
+);
+
+CREATE TABLE IF NOT EXISTS empleados (
+    id_empleado         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre_completo     varchar(50)  NOT NULL,
+    especialidad        varchar(50)  NOT NULL,
+    correo              varchar(255) NOT NULL CONSTRAINT uk_empleados_correo UNIQUE,
+    movil               varchar(15)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS servicios (
+    id_servicio         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre              varchar(50)  NOT NULL,
+    descripcion         varchar(255),
+    precio              float(53)    NOT NULL,
+    duracion_minutos    integer      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS citas (
+    id_cita                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id              bigint       NOT NULL CONSTRAINT fk_citas_usuario REFERENCES usuarios,
+    empleado_id             bigint       NOT NULL CONSTRAINT fk_citas_empleado REFERENCES empleados,
+    servicio_id             bigint       NOT NULL CONSTRAINT fk_citas_servicio REFERENCES servicios,
+    fecha                   date         NOT NULL,
+    hora                    time(6)      NOT NULL,
+    estado                  smallint     NOT NULL,
+    observaciones           varchar(255),
+    recordatorio_enviado_en timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS resenas (
+    id_resena           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id          bigint       NOT NULL CONSTRAINT fk_resenas_usuario REFERENCES usuarios,
+    empleado_id         bigint       NOT NULL CONSTRAINT fk_resenas_empleado REFERENCES empleados,
+    puntuacion          integer      NOT NULL,
+    comentario          varchar(255),
+    fecha               date
+);
+
+CREATE TABLE IF NOT EXISTS trabajos (
+    id_trabajo          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tipo                varchar(50)  NOT NULL,
+    payload             text,
+    estado              varchar(20)  NOT NULL,
+    intentos            integer      NOT NULL,
+    max_intentos        integer      NOT NULL,
+    disponible_en       timestamp(6) NOT NULL,
+    bloqueado_hasta     timestamp(6),
+    bloqueado_por       varchar(100),
+    ultimo_error        varchar(1000),
+    creado_en           timestamp(6) NOT NULL
+);
@@ -0,0 +1,39 @@
+-- Estado de las citas como smallint (ver EstadoCita) y marca del recordatorio enviado.
+-- En las bases de datos anteriores a EstadoCita el estado se guardaba como texto;
+-- en las nuevas la columna ya es smallint y la conversión no hace nada.
+
+-- V1 no toca la tabla citas de las bases de datos anteriores a las migraciones:
+-- la columna del recordatorio (RecordatorioService) hay que añadirla aquí
+ALTER TABLE citas ADD COLUMN IF NOT EXISTS recordatorio_enviado_en timestamp(6);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'citas'
+                 AND column_name = 'estado' AND data_type <> 'smallint') THEN
+        -- Un estado desconocido no se convierte en ninguno de los conocidos:
+        -- hay que corregir esas citas antes de repetir la migración
+        IF EXISTS (SELECT 1 FROM citas
+                   WHERE estado IS NULL
+                      OR lower(estado) NOT IN ('pendiente', 'confirmada', 'cancelada', 'completada')) THEN
+            RAISE EXCEPTION 'Hay citas con un estado desconocido: %',
+                (SELECT string_agg(DISTINCT coalesce(estado, 'NULL'), ', ') FROM citas
+                 WHERE estado IS NULL
+                    OR lower(estado) NOT IN ('pendiente', 'confirmada', 'cancelada', 'completada'));
+        END IF;
+
+        ALTER TABLE citas ALTER COLUMN estado TYPE smallint USING
+            CASE lower(estado)
+                WHEN 'pendiente' THEN 0
+                WHEN 'confirmada' THEN 1
+                WHEN 'cancelada' THEN 2
+                WHEN 'completada' THEN 3
+            END;
+    END IF;
+
+    -- La restricción ya existe si la creó el antiguo script de arranque (estado-citas.sql)
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chk_citas_estado') THEN
+        ALTER TABLE citas ADD CONSTRAINT chk_citas_estado CHECK (estado BETWEEN 0 AND 3);
+    END IF;
+END
+$$;
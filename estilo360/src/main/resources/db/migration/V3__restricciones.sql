@@ -0,0 +1,18 @@
+-- Restricciones de dominio que hasta ahora solo comprobaba la API.
+-- Se añaden NOT VALID (sin recorrer la tabla, con un bloqueo breve) y se validan
+-- después: VALIDATE CONSTRAINT no bloquea lecturas ni escrituras. Si hay filas
+-- que no las cumplen, la migración falla y hay que corregirlas antes de repetirla.
+
+ALTER TABLE usuarios ADD CONSTRAINT chk_usuarios_rol CHECK (lower(rol) IN ('admin', 'cliente')) NOT VALID;
+ALTER TABLE servicios ADD CONSTRAINT chk_servicios_precio CHECK (precio >= 0) NOT VALID;
+ALTER TABLE servicios ADD CONSTRAINT chk_servicios_duracion CHECK (duracion_minutos > 0) NOT VALID;
+ALTER TABLE resenas ADD CONSTRAINT chk_resenas_puntuacion CHECK (puntuacion BETWEEN 1 AND 5) NOT VALID;
+ALTER TABLE trabajos ADD CONSTRAINT chk_trabajos_estado CHECK (estado IN ('pendiente', 'en_proceso', 'fallido')) NOT VALID;
+ALTER TABLE trabajos ADD CONSTRAINT chk_trabajos_intentos CHECK (intentos >= 0 AND max_intentos > 0) NOT VALID;
+
+ALTER TABLE usuarios VALIDATE CONSTRAINT chk_usuarios_rol;
+ALTER TABLE servicios VALIDATE CONSTRAINT chk_servicios_precio;
+ALTER TABLE servicios VALIDATE CONSTRAINT chk_servicios_duracion;
+ALTER TABLE resenas VALIDATE CONSTRAINT chk_resenas_puntuacion;
+ALTER TABLE trabajos VALIDATE CONSTRAINT chk_trabajos_estado;
+ALTER TABLE trabajos VALIDATE CONSTRAINT chk_trabajos_intentos;
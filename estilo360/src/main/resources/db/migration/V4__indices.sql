@@ -0,0 +1,36 @@
+-- Índices de las consultas de la API.
+-- Se crean con CONCURRENTLY para no bloquear las escrituras en tablas grandes, lo que
+-- obliga a ejecutar la migración fuera de una transacción (ver V4__indices.sql.conf).
+-- Si la creación de un índice falla, queda marcado como no válido: hay que borrarlo
+-- (DROP INDEX CONCURRENTLY) y reparar la migración (flyway repair) antes de repetirla.
+-- IF NOT EXISTS evita errores con los índices que ya creaban Hibernate o el antiguo
+-- script de arranque.
+
+-- Agenda de un empleado en un día (comprobación de disponibilidad)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_empleado_fecha_hora ON citas (empleado_id, fecha, hora);
+
+-- Historial y citas de un usuario ordenadas por fecha
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_usuario_fecha_hora ON citas (usuario_id, fecha, hora);
+
+-- Listados de todas las citas por fecha
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_fecha_hora ON citas (fecha, hora);
+
+-- Clave ajena de servicio (borrado de servicios, citas por servicio)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_servicio ON citas (servicio_id);
+
+-- Citas vigentes (pendientes o confirmadas): al completarse las pasadas, solo contienen las futuras
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_vigentes_usuario ON citas (usuario_id, fecha, hora) WHERE estado IN (0, 1);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_vigentes_fecha ON citas (fecha, hora) WHERE estado IN (0, 1);
+
+-- Citas con el recordatorio aún sin enviar (RecordatorioService)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_citas_recordatorio_pendiente ON citas (fecha, hora) WHERE recordatorio_enviado_en IS NULL;
+
+-- Reseñas de un empleado y de un usuario
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_resenas_empleado_fecha ON resenas (empleado_id, fecha);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_resenas_usuario ON resenas (usuario_id);
+
+-- Verificación de correo por token (solo usuarios sin verificar)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_usuarios_token_verificacion ON usuarios (token_verificacion) WHERE token_verificacion IS NOT NULL;
+
+-- Reclamo de trabajos de la cola (TrabajoDAO.bloquearDisponibles)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_trabajos_tipo_estado_disponible ON trabajos (tipo, estado, disponible_en);
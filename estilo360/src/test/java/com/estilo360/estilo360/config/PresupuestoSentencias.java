@@ -0,0 +1,67 @@
+package com.estilo360.estilo360.config;
+
+/**
+ * Comprobaciones de tests sobre el número de sentencias SQL que ejecuta una llamada.
+ *
+ * Ejemplo: {@code assertMaximo(contador, 3, () -> mockMvc.perform(get("/citas/mis-citas")...))}
+ * falla si la petición ejecuta más de tres sentencias, mostrando cuáles.
+ *
+ * @version 1.0
+ */
+public final class PresupuestoSentencias {
+
+    /** Llamada medida */
+    @FunctionalInterface
+    public interface Llamada {
+
+        /**
+         * @throws Exception si falla la llamada
+         */
+        void ejecutar() throws Exception;
+    }
+
+    private PresupuestoSentencias() {
+    }
+
+    /**
+     * Ejecuta una llamada y devuelve las sentencias SQL que ha ejecutado en el hilo actual.
+     *
+     * @param contador Contador de sentencias de la aplicación
+     * @param llamada Llamada a medir
+     * @return Resumen de las sentencias
+     * @throws Exception si falla la llamada
+     */
+    public static ContadorSentencias.Resumen medir(ContadorSentencias contador, Llamada llamada) throws Exception {
+        if (!contador.iniciar()) {
+            throw new IllegalStateException("Ya hay una medición de sentencias en curso");
+        }
+        try {
+            llamada.ejecutar();
+        } catch (Exception e) {
+            contador.terminar();
+            throw e;
+        }
+        return contador.terminar();
+    }
+
+    /**
+     * Comprueba que una llamada no ejecuta más de un número de sentencias SQL.
+     *
+     * @param contador Contador de sentencias de la aplicación
+     * @param maximo Número máximo de sentencias
+     * @param llamada Llamada a medir
+     * @return Resumen de las sentencias, para más comprobaciones
+     * @throws Exception si falla la llamada
+     */
+    public static ContadorSentencias.Resumen assertMaximo(ContadorSentencias contador, int maximo, Llamada llamada)
+            throws Exception {
+        ContadorSentencias.Resumen resumen = medir(contador, llamada);
+        if (resumen.sentencias() > maximo) {
+            StringBuilder detalle = new StringBuilder();
+            resumen.detalle().forEach(s -> detalle.append("\n  ").append(s));
+            throw new AssertionError("Se esperaban como máximo " + maximo + " sentencias SQL y se ejecutaron "
+                    + resumen.sentencias() + ":" + detalle);
+        }
+        return resumen;
+    }
+}
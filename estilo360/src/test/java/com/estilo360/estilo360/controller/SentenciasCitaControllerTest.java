@@ -0,0 +1,91 @@
+package com.estilo360.estilo360.controller;
+
+import static com.estilo360.estilo360.config.PresupuestoSentencias.assertMaximo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estilo360.estilo360.config.ContadorSentencias;
+import com.estilo360.estilo360.dao.PostgresEmbebidoConfig;
+import com.estilo360.estilo360.security.JwtUtil;
+
+/**
+ * Presupuesto de sentencias SQL de los endpoints de citas y del dashboard del cliente.
+ *
+ * Usa el Postgres embebido con un conjunto de datos generado pequeño: lo que
+ * se comprueba es el número de sentencias, que no depende del volumen. El
+ * usuario de la petición se carga una vez y se reutiliza durante toda la
+ * petición (open-in-view), por eso no cuenta como sentencia adicional.
+ *
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",
+        "app.generador.usuarios=500",
+        "app.generador.empleados=5",
+        "app.generador.servicios=5",
+        "app.generador.dias-historico=90",
+        "app.generador.dias-futuro=30"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("generador")
+@Import(PostgresEmbebidoConfig.class)
+class SentenciasCitaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContadorSentencias contador;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Cabecera Authorization de un cliente con citas */
+    private String autorizacion;
+
+    @BeforeEach
+    void autenticarCliente() {
+        String correo = jdbcTemplate.queryForObject("SELECT u.correo FROM usuarios u "
+                + "JOIN citas c ON c.usuario_id = u.id_usuario ORDER BY u.id_usuario LIMIT 1", String.class);
+        autorizacion = "Bearer " + jwtUtil.generarToken(correo, "cliente");
+    }
+
+    @Test
+    void misCitas() throws Exception {
+        assertMaximo(contador, 3, () -> mockMvc.perform(get("/citas/mis-citas").header("Authorization", autorizacion))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void proximaCita() throws Exception {
+        // La consulta nativa no puede traer empleado y servicio en la misma sentencia
+        assertMaximo(contador, 4, () -> mockMvc.perform(get("/citas/proxima").header("Authorization", autorizacion))
+                .andExpect(status().is2xxSuccessful()));
+    }
+
+    @Test
+    void historial() throws Exception {
+        assertMaximo(contador, 3, () -> mockMvc.perform(get("/citas/historial").header("Authorization", autorizacion))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void dashboardCliente() throws Exception {
+        // Usuario y citas (con empleado y servicio) en dos sentencias
+        assertMaximo(contador, 2, () -> mockMvc.perform(get("/dashboard/cliente").header("Authorization", autorizacion))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.estilo360.estilo360.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Captura las sentencias SQL que ejecuta una llamada a un repositorio, con sus
+ * parámetros, y obtiene su plan de ejecución.
+ *
+ * Se registra como listener del datasource-proxy que envuelve el datasource de
+ * los tests. Solo captura mientras se ejecuta {@link #capturar(Runnable)}; los
+ * planes se obtienen por una conexión sin proxy para no capturarse a sí mismos.
+ *
+ * @version 1.0
+ */
+class ConsultasCapturadas implements QueryExecutionListener {
+
+    /**
+     * Sentencia ejecutada con sus parámetros.
+     *
+     * @param sql Sentencia SQL con marcadores "?"
+     * @param parametros Operaciones de asignación de parámetros, en orden
+     */
+    record Consulta(String sql, List<ParameterSetOperation> parametros) {
+    }
+
+    /** Datasource sin proxy para obtener los planes */
+    private final DataSource dataSource;
+
+    /** Lector del plan en JSON */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Sentencias capturadas */
+    private final List<Consulta> consultas = new CopyOnWriteArrayList<>();
+
+    /** Indica si se está capturando */
+    private volatile boolean capturando;
+
+    /**
+     * @param dataSource Datasource sin proxy
+     */
+    ConsultasCapturadas(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!capturando) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            // En los lotes basta con el primer juego de parámetros
+            List<ParameterSetOperation> parametros = queryInfo.getParametersList().isEmpty()
+                    ? List.of()
+                    : new ArrayList<>(queryInfo.getParametersList().get(0));
+            consultas.add(new Consulta(queryInfo.getQuery(), parametros));
+        }
+    }
+
+    /**
+     * Ejecuta una llamada y devuelve las sentencias que ha ejecutado.
+     *
+     * @param llamada Llamada al repositorio
+     * @return Sentencias ejecutadas, en orden
+     */
+    List<Consulta> capturar(Runnable llamada) {
+        consultas.clear();
+        capturando = true;
+        try {
+            llamada.run();
+        } finally {
+            capturando = false;
+        }
+        return new ArrayList<>(consultas);
+    }
+
+    /**
+     * Obtiene el plan de una sentencia con {@code EXPLAIN (FORMAT JSON)},
+     * repitiendo las mismas asignaciones de parámetros que hizo Hibernate.
+     *
+     * @param consulta Sentencia capturada
+     * @return Nodo raíz del plan
+     * @throws Exception si no se puede obtener el plan
+     */
+    JsonNode explicar(Consulta consulta) throws Exception {
+        try (Connection conexion = dataSource.getConnection();
+             PreparedStatement ps = conexion.prepareStatement("EXPLAIN (FORMAT JSON) " + consulta.sql())) {
+            for (ParameterSetOperation parametro : consulta.parametros()) {
+                parametro.getMethod().invoke(ps, parametro.getArgs());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.estilo360.estilo360.dao;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estilo360.estilo360.dao.ConsultasCapturadas.Consulta;
+import com.estilo360.estilo360.entidades.EstadoCita;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Tests de regresión de los planes de ejecución de las consultas de los repositorios.
+ *
+ * Carga en un Postgres embebido un conjunto de datos generado con
+ * {@link com.estilo360.estilo360.generador.GeneradorDatos} (unas 380.000 citas),
+ * ejecuta cada consulta de los repositorios de citas, reseñas, usuarios y
+ * empleados, y obtiene con {@code EXPLAIN (FORMAT JSON)} el plan de cada
+ * sentencia que ha generado Hibernate. Falla si alguna recorre secuencialmente
+ * una tabla grande o si su coste estimado supera el máximo indicado.
+ *
+ * Los listados completos de citas ({@code findAllByOrderBy...}) leen toda la
+ * tabla por definición y no se comprueban. Las tablas de empleados y servicios
+ * son pequeñas y Postgres las recorre secuencialmente aunque tengan índice.
+ *
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.generador.usuarios=50000",
+        "app.generador.empleados=120",
+        "app.generador.servicios=12",
+        "app.generador.dias-historico=365",
+        "app.generador.dias-futuro=60",
+        "app.generador.hilos=4",
+        "app.generador.tamano-bloque=20000",
+        // Cada llamada debe llegar a la base de datos para poder obtener su plan
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("generador")
+@Import(PostgresEmbebidoConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlanesConsultaTest {
+
+    /** Tablas que no deben recorrerse secuencialmente */
+    private static final Set<String> TABLAS_GRANDES = Set.of("citas", "resenas", "usuarios");
+
+    @Autowired
+    private CitaDAO citaDAO;
+
+    @Autowired
+    private ResenaDAO resenaDAO;
+
+    @Autowired
+    private UsuarioDAO usuarioDAO;
+
+    @Autowired
+    private EmpleadoDAO empleadoDAO;
+
+    @Autowired
+    private ConsultasCapturadas consultasCapturadas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /** Usuario con un número de citas habitual */
+    private Long usuarioId;
+
+    private String correoUsuario;
+
+    private Long empleadoId;
+
+    private String correoEmpleado;
+
+    private Long citaId;
+
+    private final LocalDate hoy = LocalDate.now();
+
+    private final LocalTime ahora = LocalTime.now();
+
+    @BeforeAll
+    void elegirDatos() {
+        usuarioId = jdbcTemplate.queryForObject("SELECT usuario_id FROM citas GROUP BY usuario_id "
+                + "HAVING count(*) BETWEEN 5 AND 20 ORDER BY usuario_id LIMIT 1", Long.class);
+        correoUsuario = jdbcTemplate.queryForObject("SELECT correo FROM usuarios WHERE id_usuario = ?",
+                String.class, usuarioId);
+        empleadoId = jdbcTemplate.queryForObject("SELECT min(id_empleado) FROM empleados", Long.class);
+        correoEmpleado = jdbcTemplate.queryForObject("SELECT correo FROM empleados WHERE id_empleado = ?",
+                String.class, empleadoId);
+        citaId = jdbcTemplate.queryForObject("SELECT min(id_cita) FROM citas", Long.class);
+    }
+
+    // --- CitaDAO ---
+
+    @Test
+    void citaPorId() {
+        comprobar(100, () -> citaDAO.findById(citaId));
+    }
+
+    @Test
+    void citasDeEmpleadoEnUnDia() {
+        comprobar(500, () -> citaDAO.findByEmpleado_IdEmpleadoAndFecha(empleadoId, hoy.minusDays(7)));
+    }
+
+    @Test
+    void citasPendientesDeRecordatorio() {
+        comprobar(1000, () -> citaDAO.findPendientesDeRecordatorio(hoy, ahora, hoy.plusDays(1), ahora,
+                EstadoCita.ACTIVOS, PageRequest.of(0, 100)));
+    }
+
+    @Test
+    void marcarRecordatorioEnviado() {
+        comprobar(100, () -> transactionTemplate.executeWithoutResult(estado ->
+                citaDAO.marcarRecordatorioEnviado(List.of(citaId, citaId + 1, citaId + 2), LocalDateTime.now())));
+    }
+
+    @Test
+    void proximaCitaVigente() {
+        comprobar(100, () -> citaDAO.findProximaVigente(usuarioId, hoy, ahora));
+    }
+
+    @Test
+    void historialDeUsuario() {
+        comprobar(500, () -> citaDAO.findHistorial(usuarioId, hoy, ahora, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void citasDeUsuario() {
+        comprobar(500, () -> citaDAO.findByUsuario(usuarioId));
+    }
+
+    @Test
+    void completarCitasPasadas() {
+        comprobar(2000, () -> citaDAO.completarCitasPasadas(hoy, ahora));
+    }
+
+    // --- ResenaDAO ---
+
+    @Test
+    void resenaPorId() {
+        comprobar(100, () -> resenaDAO.findById(1L));
+    }
+
+    @Test
+    void resenasDeEmpleado() {
+        comprobar(3000, () -> resenaDAO.findByEmpleado_IdEmpleado(empleadoId));
+    }
+
+    @Test
+    void resenasDeUsuario() {
+        comprobar(200, () -> resenaDAO.findByUsuarioId(usuarioId));
+    }
+
+    // --- UsuarioDAO ---
+
+    @Test
+    void usuarioPorId() {
+        comprobar(100, () -> usuarioDAO.findById(usuarioId));
+    }
+
+    @Test
+    void usuarioPorCorreo() {
+        comprobar(100, () -> usuarioDAO.findByCorreo(correoUsuario));
+    }
+
+    @Test
+    void usuarioPorTokenVerificacion() {
+        comprobar(100, () -> usuarioDAO.findByTokenVerificacion("token-inexistente"));
+    }
+
+    // --- EmpleadoDAO ---
+
+    @Test
+    void empleadoPorId() {
+        comprobar(100, () -> empleadoDAO.findById(empleadoId));
+    }
+
+    @Test
+    void empleadoPorCorreo() {
+        comprobar(100, () -> empleadoDAO.findByCorreo(correoEmpleado));
+    }
+
+    /**
+     * Ejecuta una llamada a un repositorio y comprueba el plan de cada sentencia
+     * que genera.
+     *
+     * @param costeMaximo Coste total estimado máximo de cada sentencia
+     * @param llamada Llamada al repositorio
+     */
+    private void comprobar(double costeMaximo, Runnable llamada) {
+        List<Consulta> consultas = consultasCapturadas.capturar(llamada);
+        assertFalse(consultas.isEmpty(), "La llamada no ha ejecutado ninguna sentencia");
+
+        for (Consulta consulta : consultas) {
+            JsonNode plan;
+            try {
+                plan = consultasCapturadas.explicar(consulta);
+            } catch (Exception e) {
+                throw new AssertionError("No se pudo obtener el plan de: " + consulta.sql(), e);
+            }
+
+            List<String> secuenciales = new ArrayList<>();
+            buscarSecuenciales(plan, secuenciales);
+            JsonNode planFinal = plan;
+            assertTrue(secuenciales.isEmpty(), () -> "Recorrido secuencial de " + secuenciales
+                    + " en:\n" + consulta.sql() + "\n" + planFinal.toPrettyString());
+
+            double coste = plan.get("Total Cost").asDouble();
+            assertTrue(coste <= costeMaximo, () -> "Coste " + coste + " mayor que " + costeMaximo
+                    + " en:\n" + consulta.sql() + "\n" + planFinal.toPrettyString());
+        }
+    }
+
+    /**
+     * Recorre el plan y anota las tablas grandes leídas con Seq Scan.
+     *
+     * @param nodo Nodo del plan
+     * @param secuenciales Tablas encontradas
+     */
+    private static void buscarSecuenciales(JsonNode nodo, List<String> secuenciales) {
+        String relacion = nodo.path("Relation Name").asText();
+        if ("Seq Scan".equals(nodo.path("Node Type").asText()) && TABLAS_GRANDES.contains(relacion)) {
+            secuenciales.add(relacion);
+        }
+        for (JsonNode hijo : nodo.path("Plans")) {
+            buscarSecuenciales(hijo, secuenciales);
+        }
+    }
+}
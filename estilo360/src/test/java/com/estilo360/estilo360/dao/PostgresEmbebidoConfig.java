@@ -0,0 +1,63 @@
+package com.estilo360.estilo360.dao;
+
+import java.io.IOException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configuración de tests con un Postgres embebido (misma versión que la de
+ * docker-compose) en lugar de la base de datos local.
+ *
+ * El datasource de la aplicación se envuelve con datasource-proxy para
+ * capturar las sentencias que ejecutan los repositorios.
+ *
+ * @version 1.0
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresEmbebidoConfig {
+
+    /**
+     * Arranca el Postgres embebido en un puerto libre.
+     *
+     * @return Servidor Postgres embebido
+     * @throws IOException si no se puede arrancar
+     */
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.builder().start();
+    }
+
+    /**
+     * Listener que captura las sentencias y obtiene sus planes.
+     *
+     * @param postgres Servidor Postgres embebido
+     * @return Listener de captura
+     */
+    @Bean
+    ConsultasCapturadas consultasCapturadas(EmbeddedPostgres postgres) {
+        return new ConsultasCapturadas(postgres.getPostgresDatabase());
+    }
+
+    /**
+     * Datasource de la aplicación, con el proxy de captura.
+     *
+     * @param postgres Servidor Postgres embebido
+     * @param consultasCapturadas Listener de captura
+     * @return Datasource con proxy
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(EmbeddedPostgres postgres, ConsultasCapturadas consultasCapturadas) {
+        return ProxyDataSourceBuilder.create(postgres.getPostgresDatabase())
+                .name("planes")
+                .listener(consultasCapturadas)
+                .build();
+    }
+}
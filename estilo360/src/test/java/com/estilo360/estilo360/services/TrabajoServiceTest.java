@@ -0,0 +1,219 @@
+package com.estilo360.estilo360.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estilo360.estilo360.dao.PostgresEmbebidoConfig;
+import com.estilo360.estilo360.dao.TrabajoDAO;
+import com.estilo360.estilo360.entidades.Trabajo;
+
+/**
+ * Tests de la cola persistente de trabajos contra un Postgres embebido.
+ *
+ * Comprueban que dos reclamos simultáneos se reparten los trabajos con
+ * {@code SKIP LOCKED}, que un nodo solo puede completar o fallar el intento
+ * que reclamó, la espera exponencial entre reintentos y que un trabajo queda
+ * fallido al agotar sus intentos. Se usa un tipo sin manejador para que el
+ * worker no toque los trabajos de los tests.
+ *
+ * @version 1.0
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.nodo.id=nodo-prueba",
+        "app.trabajos.max-intentos=4",
+        "app.trabajos.visibilidad-segundos=300",
+        "app.trabajos.reintento-base-segundos=30",
+        "app.trabajos.reintento-max-segundos=100"
+})
+@Import(PostgresEmbebidoConfig.class)
+class TrabajoServiceTest {
+
+    /** Tipo de trabajo de los tests, sin manejador registrado */
+    private static final String TIPO = "prueba";
+
+    /** Margen al comparar marcas de tiempo leídas de la base de datos */
+    private static final long MARGEN_NANOS = 1_000_000;
+
+    @Autowired
+    private TrabajoService trabajoService;
+
+    @Autowired
+    private TrabajoDAO trabajoDAO;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void vaciarCola() {
+        jdbcTemplate.update("DELETE FROM trabajos WHERE tipo = ?", TIPO);
+    }
+
+    @Test
+    void reclamosSimultaneosSeRepartenLosTrabajos() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            trabajoService.encolar(TIPO, Map.of("n", i));
+        }
+
+        CountDownLatch bloqueados = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService otroWorker = Executors.newSingleThreadExecutor();
+        try {
+            // Otro worker bloquea dos trabajos y mantiene abierta su transacción
+            Future<List<Long>> otros = otroWorker.submit(() -> transactionTemplate.execute(estado -> {
+                List<Long> ids = trabajoDAO.bloquearDisponibles(TIPO, LocalDateTime.now(), 2).stream()
+                        .map(Trabajo::getId_trabajo)
+                        .toList();
+                bloqueados.countDown();
+                try {
+                    liberar.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ids;
+            }));
+            assertTrue(bloqueados.await(30, TimeUnit.SECONDS));
+
+            List<Trabajo> reclamados = trabajoService.reclamar(TIPO, 10);
+            liberar.countDown();
+
+            List<Long> idsOtros = otros.get(30, TimeUnit.SECONDS);
+            assertEquals(2, idsOtros.size());
+            assertEquals(2, reclamados.size());
+            for (Trabajo trabajo : reclamados) {
+                assertFalse(idsOtros.contains(trabajo.getId_trabajo()));
+                assertEquals(Trabajo.EN_PROCESO, columna(trabajo, "estado", String.class));
+                assertEquals(1, columna(trabajo, "intentos", Integer.class));
+                assertEquals("nodo-prueba", columna(trabajo, "bloqueado_por", String.class));
+                assertTrue(columna(trabajo, "bloqueado_hasta", LocalDateTime.class)
+                        .isAfter(LocalDateTime.now().plusSeconds(290)));
+            }
+        } finally {
+            liberar.countDown();
+            otroWorker.shutdownNow();
+        }
+    }
+
+    @Test
+    void soloSeCompletaElIntentoReclamado() {
+        trabajoService.encolar(TIPO, Map.of());
+        Trabajo primero = trabajoService.reclamar(TIPO, 1).get(0);
+
+        // El bloqueo caduca y el trabajo se reclama de nuevo en otro intento
+        caducarBloqueo(primero);
+        Trabajo segundo = trabajoService.reclamar(TIPO, 1).get(0);
+        assertEquals(primero.getId_trabajo(), segundo.getId_trabajo());
+        assertEquals(2, segundo.getIntentos());
+
+        // El primer intento termina tarde: no puede completar ni fallar el trabajo
+        trabajoService.completar(primero);
+        trabajoService.fallar(primero, new RuntimeException("tarde"));
+        assertEquals(Trabajo.EN_PROCESO, columna(segundo, "estado", String.class));
+        assertNull(columna(segundo, "ultimo_error", String.class));
+
+        trabajoService.completar(segundo);
+        assertFalse(trabajoDAO.existsById(segundo.getId_trabajo()));
+    }
+
+    @Test
+    void soloCompletaElNodoQueReclamo() {
+        trabajoService.encolar(TIPO, Map.of());
+        Trabajo trabajo = trabajoService.reclamar(TIPO, 1).get(0);
+
+        // Otro nodo lo ha reclamado con el mismo número de intento
+        jdbcTemplate.update("UPDATE trabajos SET bloqueado_por = 'otro-nodo' WHERE id_trabajo = ?",
+                trabajo.getId_trabajo());
+
+        trabajoService.completar(trabajo);
+        trabajoService.fallar(trabajo, new RuntimeException("ajeno"));
+        assertEquals(Trabajo.EN_PROCESO, columna(trabajo, "estado", String.class));
+        assertEquals("otro-nodo", columna(trabajo, "bloqueado_por", String.class));
+    }
+
+    @Test
+    void losFallosSeReintentanConEsperaExponencialHastaAgotarLosIntentos() {
+        trabajoService.encolar(TIPO, Map.of());
+
+        // Base 30 s, máximo 100 s: 30, 60 y 100 (en lugar de 120)
+        long[] esperas = {30, 60, 100};
+        for (long espera : esperas) {
+            Trabajo trabajo = trabajoService.reclamar(TIPO, 1).get(0);
+            LocalDateTime antes = LocalDateTime.now();
+            trabajoService.fallar(trabajo, new RuntimeException("fallo " + trabajo.getIntentos()));
+            LocalDateTime despues = LocalDateTime.now();
+
+            assertEquals(Trabajo.PENDIENTE, columna(trabajo, "estado", String.class));
+            assertNull(columna(trabajo, "bloqueado_por", String.class));
+            // timestamp(6) redondea a microsegundos: se admite 1 ms de margen
+            LocalDateTime disponibleEn = columna(trabajo, "disponible_en", LocalDateTime.class);
+            assertFalse(disponibleEn.isBefore(antes.plusSeconds(espera).minusNanos(MARGEN_NANOS)));
+            assertFalse(disponibleEn.isAfter(despues.plusSeconds(espera).plusNanos(MARGEN_NANOS)));
+
+            // Hasta que pase la espera no se puede reclamar
+            assertTrue(trabajoService.reclamar(TIPO, 1).isEmpty());
+            adelantar(trabajo);
+        }
+
+        Trabajo ultimo = trabajoService.reclamar(TIPO, 1).get(0);
+        assertEquals(4, ultimo.getIntentos());
+        trabajoService.fallar(ultimo, new RuntimeException("último fallo"));
+
+        assertEquals(Trabajo.FALLIDO, columna(ultimo, "estado", String.class));
+        assertEquals("último fallo", columna(ultimo, "ultimo_error", String.class));
+        adelantar(ultimo);
+        assertTrue(trabajoService.reclamar(TIPO, 1).isEmpty());
+    }
+
+    @Test
+    void trabajoAbandonadoEnSuUltimoIntentoQuedaFallido() {
+        Trabajo trabajo = trabajoService.encolar(TIPO, Map.of());
+
+        // El worker cayó durante el último intento y su bloqueo ha caducado
+        jdbcTemplate.update("UPDATE trabajos SET estado = 'en_proceso', intentos = max_intentos, "
+                + "bloqueado_por = 'nodo-caido', bloqueado_hasta = ? WHERE id_trabajo = ?",
+                LocalDateTime.now().minusSeconds(1), trabajo.getId_trabajo());
+
+        assertTrue(trabajoService.reclamar(TIPO, 1).isEmpty());
+        assertEquals(Trabajo.FALLIDO, columna(trabajo, "estado", String.class));
+        assertNull(columna(trabajo, "bloqueado_por", String.class));
+    }
+
+    /**
+     * Lee una columna de un trabajo directamente de la base de datos.
+     */
+    private <T> T columna(Trabajo trabajo, String columna, Class<T> tipo) {
+        return jdbcTemplate.queryForObject("SELECT " + columna + " FROM trabajos WHERE id_trabajo = ?",
+                tipo, trabajo.getId_trabajo());
+    }
+
+    private void caducarBloqueo(Trabajo trabajo) {
+        jdbcTemplate.update("UPDATE trabajos SET bloqueado_hasta = ? WHERE id_trabajo = ?",
+                LocalDateTime.now().minusSeconds(1), trabajo.getId_trabajo());
+    }
+
+    private void adelantar(Trabajo trabajo) {
+        jdbcTemplate.update("UPDATE trabajos SET disponible_en = ? WHERE id_trabajo = ?",
+                LocalDateTime.now().minusSeconds(1), trabajo.getId_trabajo());
+    }
+}